@@ -0,0 +1,78 @@
+package benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Сравнение двух CSV-отчетов BenchmarkRunner: изменение оценки каждого бенчмарка в процентах
+public class BenchmarkCompare {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: BenchmarkCompare <baseline.csv> <current.csv>");
+            return;
+        }
+        Map<String, Double> baseline = read(Path.of(args[0]));
+        Map<String, Double> current = read(Path.of(args[1]));
+
+        System.out.printf("%-70s %12s %12s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Double> entry : current.entrySet()) {
+            Double before = baseline.get(entry.getKey());
+            double after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-70s %12s %12.3f %9s%n", entry.getKey(), "-", after, "new");
+            } else {
+                double change = (after - before) / before * 100;
+                System.out.printf("%-70s %12.3f %12.3f %+8.1f%%%n", entry.getKey(), before, after, change);
+            }
+        }
+    }
+
+    private static Map<String, Double> read(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path);
+        List<String> header = parse(lines.get(0));
+        int benchmark = header.indexOf("Benchmark");
+        int score = header.indexOf("Score");
+        List<Integer> params = new ArrayList<>();
+        for (int i = 0; i < header.size(); i++) {
+            if (header.get(i).startsWith("Param: ")) {
+                params.add(i);
+            }
+        }
+
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            List<String> columns = parse(line);
+            StringBuilder key = new StringBuilder(columns.get(benchmark));
+            for (int index : params) {
+                if (!columns.get(index).isEmpty()) {
+                    key.append(' ').append(header.get(index).substring(7)).append('=').append(columns.get(index));
+                }
+            }
+            result.put(key.toString(), Double.parseDouble(columns.get(score)));
+        }
+        return result;
+    }
+
+    private static List<String> parse(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (char c : line.toCharArray()) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                columns.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        columns.add(current.toString());
+        return columns;
+    }
+}
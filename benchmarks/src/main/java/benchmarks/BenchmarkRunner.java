@@ -0,0 +1,26 @@
+package benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+// Запуск бенчмарков с сохранением результатов в CSV: benchmarks/target/jmh-<метка>.csv
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String label = args.length > 0 ? args[0] : "current";
+        String include = args.length > 1 ? args[1] : ".*Benchmark.*";
+
+        new File("target").mkdirs();
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.CSV)
+                .result("target/jmh-" + label + ".csv")
+                .build();
+        new Runner(options).run();
+    }
+}
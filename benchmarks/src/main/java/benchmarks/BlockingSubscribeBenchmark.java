@@ -0,0 +1,72 @@
+package benchmarks;
+
+import components.Observable;
+import components.Scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// Время, за которое завершаются SUBSCRIPTIONS одновременных подписок с блокирующим источником
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlockingSubscribeBenchmark {
+
+    static final int SUBSCRIPTIONS = 10_000;
+
+    @Param({"cached", "virtual"})
+    String scheduler;
+
+    @Param({"10"})
+    int blockMillis;
+
+    private Scheduler instance;
+    private Observable<Integer> blocking;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        instance = Schedulers.create(scheduler);
+        blocking = Observable.<Integer>create(observer -> {
+                    try {
+                        // Имитация JDBC-запроса или чтения файла
+                        Thread.sleep(blockMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    observer.onNext(1);
+                    observer.onComplete();
+                })
+                .subscribeOn(instance);
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public void concurrentBlockingSubscriptions() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(SUBSCRIPTIONS);
+        for (int i = 0; i < SUBSCRIPTIONS; i++) {
+            blocking.subscribe(item -> {
+            }, error -> latch.countDown(), latch::countDown);
+        }
+        latch.await();
+    }
+}
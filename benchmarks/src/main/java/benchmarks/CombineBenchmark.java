@@ -0,0 +1,129 @@
+package benchmarks;
+
+import components.Disposable;
+import components.Observable;
+import components.Observer;
+import components.Scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Объединение источников, работающих на разных потоках ComputationScheduler: ITEMS элементов делятся
+// между sources источниками. synchronizedMerge - ручное слияние под монитором, как до появления merge
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CombineBenchmark {
+
+    static final int ITEMS = 64 * 1024;
+
+    @Param({"2", "8", "64"})
+    int sources;
+
+    private Scheduler scheduler;
+    private List<Observable<Integer>> inputs;
+    private Observable<Integer> merged;
+    private Observable<Integer> concatenated;
+    private Observable<Integer> zipped;
+    private Observable<Integer> combined;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        scheduler = Schedulers.create("computation");
+        inputs = new ArrayList<>();
+        for (int i = 0; i < sources; i++) {
+            inputs.add(Observable.range(0, ITEMS / sources).subscribeOn(scheduler));
+        }
+        Observable<Integer>[] array = (Observable<Integer>[]) inputs.toArray(new Observable<?>[0]);
+        merged = Observable.merge(array);
+        concatenated = Observable.concat(array);
+        zipped = Observable.zip(inputs, row -> row.length);
+        combined = Observable.combineLatest(inputs, row -> row.length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Benchmark
+    public void merge(Blackhole bh) throws InterruptedException {
+        await(merged, bh);
+    }
+
+    @Benchmark
+    public void concat(Blackhole bh) throws InterruptedException {
+        await(concatenated, bh);
+    }
+
+    @Benchmark
+    public void zip(Blackhole bh) throws InterruptedException {
+        await(zipped, bh);
+    }
+
+    @Benchmark
+    public void combineLatest(Blackhole bh) throws InterruptedException {
+        await(combined, bh);
+    }
+
+    @Benchmark
+    public void synchronizedMerge(Blackhole bh) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger remaining = new AtomicInteger(sources);
+        Object lock = new Object();
+        for (Observable<Integer> input : inputs) {
+            input.subscribe(new Observer<>() {
+                @Override
+                public void onSubscribe(Disposable disposable) {
+                }
+
+                @Override
+                public void onNext(Integer item) {
+                    synchronized (lock) {
+                        bh.consume(item);
+                    }
+                }
+
+                @Override
+                public void onError(Throwable e) {
+                    latch.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    if (remaining.decrementAndGet() == 0) {
+                        latch.countDown();
+                    }
+                }
+            });
+        }
+        latch.await();
+    }
+
+    private static void await(Observable<Integer> source, Blackhole bh) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        source.subscribe(bh::consume, error -> latch.countDown(), latch::countDown);
+        latch.await();
+    }
+}
@@ -0,0 +1,48 @@
+package benchmarks;
+
+import components.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Стоимость одного элемента flatMap: всего COUNT элементов, распределенных по inners внутренним потокам
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(FlatMapBenchmark.COUNT)
+public class FlatMapBenchmark {
+
+    static final int COUNT = 1000;
+
+    @Param({"1", "10", "1000"})
+    int inners;
+
+    private Observable<Integer> flatMap;
+
+    @Setup
+    public void setup() {
+        int perInner = COUNT / inners;
+        flatMap = Observable.range(0, inners).flatMap(x -> Observable.range(x, perInner));
+    }
+
+    @Benchmark
+    public void flatMapFanOut(Blackhole bh) {
+        flatMap.subscribe(bh::consume, bh::consume, () -> {
+        });
+    }
+}
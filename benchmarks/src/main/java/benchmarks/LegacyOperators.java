@@ -0,0 +1,43 @@
+package benchmarks;
+
+import components.Observable;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Операторы в том виде, в котором они были до слияния стадий: эталон для сравнения
+final class LegacyOperators {
+
+    private LegacyOperators() {
+    }
+
+    static <T, R> Observable<R> map(Observable<T> source, Function<T, R> mapper) {
+        return new Observable<>(observer -> source.subscribe(
+                item -> {
+                    try {
+                        observer.onNext(mapper.apply(item));
+                    } catch (Exception e) {
+                        observer.onError(e);
+                    }
+                },
+                observer::onError,
+                observer::onComplete
+        ));
+    }
+
+    static <T> Observable<T> filter(Observable<T> source, Predicate<T> predicate) {
+        return new Observable<>(observer -> source.subscribe(
+                item -> {
+                    try {
+                        if (predicate.test(item)) {
+                            observer.onNext(item);
+                        }
+                    } catch (Exception e) {
+                        observer.onError(e);
+                    }
+                },
+                observer::onError,
+                observer::onComplete
+        ));
+    }
+}
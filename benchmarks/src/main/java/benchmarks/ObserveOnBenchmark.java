@@ -0,0 +1,65 @@
+package benchmarks;
+
+import components.Observable;
+import components.Scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// Стоимость одного элемента при переходе на поток планировщика через observeOn
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@OperationsPerInvocation(ObserveOnBenchmark.COUNT)
+public class ObserveOnBenchmark {
+
+    static final int COUNT = 10_000;
+
+    @Param({"cached", "computation", "single"})
+    String scheduler;
+
+    @Param({"1", "3"})
+    int hops;
+
+    private Scheduler instance;
+    private Observable<Integer> source;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        instance = Schedulers.create(scheduler);
+        source = Observable.range(0, COUNT);
+        for (int i = 0; i < hops; i++) {
+            source = source.observeOn(instance);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public void observeOn(Blackhole bh) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        source.subscribe(bh::consume, error -> latch.countDown(), latch::countDown);
+        latch.await();
+    }
+}
@@ -0,0 +1,81 @@
+package benchmarks;
+
+import components.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Стоимость одного элемента в цепочке map/filter: старые операторы против слитой стадии
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(OperatorChainBenchmark.COUNT)
+public class OperatorChainBenchmark {
+
+    static final int COUNT = 1000;
+
+    @Param({"1", "5", "10"})
+    int chainLength;
+
+    private Observable<Integer> legacy;
+    private Observable<Integer> fusedPush;
+    private Observable<Integer> fusedPull;
+
+    @Setup
+    public void setup() {
+        Observable<Integer> push = Observable.create(observer -> {
+            for (int i = 0; i < COUNT; i++) {
+                observer.onNext(i);
+            }
+            observer.onComplete();
+        });
+
+        legacy = push;
+        fusedPush = push;
+        fusedPull = Observable.range(0, COUNT);
+        for (int i = 0; i < chainLength; i++) {
+            if (i % 2 == 0) {
+                legacy = LegacyOperators.map(legacy, x -> x + 1);
+                fusedPush = fusedPush.map(x -> x + 1);
+                fusedPull = fusedPull.map(x -> x + 1);
+            } else {
+                legacy = LegacyOperators.filter(legacy, x -> x >= 0);
+                fusedPush = fusedPush.filter(x -> x >= 0);
+                fusedPull = fusedPull.filter(x -> x >= 0);
+            }
+        }
+    }
+
+    @Benchmark
+    public void legacyChain(Blackhole bh) {
+        legacy.subscribe(bh::consume, bh::consume, () -> {
+        });
+    }
+
+    @Benchmark
+    public void fusedPushChain(Blackhole bh) {
+        fusedPush.subscribe(bh::consume, bh::consume, () -> {
+        });
+    }
+
+    @Benchmark
+    public void fusedPullChain(Blackhole bh) {
+        fusedPull.subscribe(bh::consume, bh::consume, () -> {
+        });
+    }
+}
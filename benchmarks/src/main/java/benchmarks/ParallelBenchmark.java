@@ -0,0 +1,91 @@
+package benchmarks;
+
+import components.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import schedulers.ComputationScheduler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// Масштабирование CPU-нагруженного map по рельсам parallel(n) в сравнении с обычным map в одном потоке
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@OperationsPerInvocation(ParallelBenchmark.COUNT)
+public class ParallelBenchmark {
+
+    static final int COUNT = 10_000;
+    static final long WORK = 1000;
+
+    @Param({"1", "2", "4", "8", "32"})
+    int parallelism;
+
+    private ComputationScheduler scheduler;
+    private Observable<Integer> serial;
+    private Observable<Integer> sequential;
+    private Observable<Integer> ordered;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        scheduler = new ComputationScheduler(parallelism, ComputationScheduler.WorkerSelection.ROUND_ROBIN);
+        serial = Observable.range(0, COUNT).map(ParallelBenchmark::work);
+        sequential = Observable.range(0, COUNT)
+                .parallel(parallelism)
+                .runOn(scheduler)
+                .map(ParallelBenchmark::work)
+                .sequential();
+        ordered = Observable.range(0, COUNT)
+                .parallel(parallelism)
+                .runOn(scheduler)
+                .map(ParallelBenchmark::work)
+                .ordered();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        scheduler.shutdown();
+    }
+
+    private static Integer work(Integer x) {
+        Blackhole.consumeCPU(WORK);
+        return x;
+    }
+
+    @Benchmark
+    public void serialMap(Blackhole bh) throws InterruptedException {
+        run(serial, bh);
+    }
+
+    @Benchmark
+    public void parallelSequential(Blackhole bh) throws InterruptedException {
+        run(sequential, bh);
+    }
+
+    @Benchmark
+    public void parallelOrdered(Blackhole bh) throws InterruptedException {
+        run(ordered, bh);
+    }
+
+    private static void run(Observable<Integer> source, Blackhole bh) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        source.subscribe(bh::consume, error -> latch.countDown(), latch::countDown);
+        latch.await();
+    }
+}
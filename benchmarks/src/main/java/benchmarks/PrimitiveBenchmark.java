@@ -0,0 +1,65 @@
+package benchmarks;
+
+import components.IntObservable;
+import components.Observable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// map/filter/sum над числами: Observable<Integer> против IntObservable; аллокации видны с -prof gc
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@OperationsPerInvocation(PrimitiveBenchmark.COUNT)
+public class PrimitiveBenchmark {
+
+    static final int COUNT = 100_000;
+
+    private Observable<Integer> boxed;
+    private IntObservable primitive;
+
+    @Setup
+    public void setup() {
+        // Значения выходят за кэш Integer, чтобы упаковка действительно выделяла память
+        boxed = Observable.<Integer>create(observer -> {
+                    for (int i = 0; i < COUNT; i++) {
+                        observer.onNext(i);
+                    }
+                    observer.onComplete();
+                })
+                .map(x -> x * 3)
+                .filter(x -> (x & 1) == 0);
+        primitive = IntObservable.range(0, COUNT)
+                .map(x -> x * 3)
+                .filter(x -> (x & 1) == 0);
+    }
+
+    @Benchmark
+    public void boxedSum(Blackhole bh) {
+        boxed.mapToInt(Integer::intValue)
+                .sum()
+                .subscribe(bh::consume, bh::consume, () -> {
+                });
+    }
+
+    @Benchmark
+    public void primitiveSum(Blackhole bh) {
+        primitive.sum()
+                .subscribe(bh::consume, bh::consume, () -> {
+                });
+    }
+}
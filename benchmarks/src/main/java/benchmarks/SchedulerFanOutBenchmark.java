@@ -0,0 +1,78 @@
+package benchmarks;
+
+import components.Observable;
+import components.Scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+// Задачи, которые ставятся из потоков самого планировщика: вложенный flatMap с subscribeOn на каждом уровне
+// и рекурсивное деление на 2^DEPTH крошечных задач
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchedulerFanOutBenchmark {
+
+    static final int OUTER = 100;
+    static final int INNER = 10;
+    static final int DEPTH = 14;
+
+    @Param({"computation", "forkjoin"})
+    String scheduler;
+
+    private Scheduler instance;
+    private Observable<Integer> nested;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        instance = Schedulers.create(scheduler);
+        nested = Observable.range(0, OUTER)
+                .flatMap(x -> Observable.range(x * INNER, INNER).subscribeOn(instance)
+                        .flatMap(y -> Observable.fromArray(y).subscribeOn(instance)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        instance.shutdown();
+    }
+
+    @Benchmark
+    public void nestedFlatMap(Blackhole bh) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        nested.subscribe(bh::consume, error -> latch.countDown(), latch::countDown);
+        latch.await();
+    }
+
+    @Benchmark
+    public void tinyTasks() throws InterruptedException {
+        CountDownLatch leaves = new CountDownLatch(1 << DEPTH);
+        instance.execute(() -> split(DEPTH, leaves));
+        leaves.await();
+    }
+
+    private void split(int level, CountDownLatch leaves) {
+        if (level == 0) {
+            leaves.countDown();
+            return;
+        }
+        instance.execute(() -> split(level - 1, leaves));
+        instance.execute(() -> split(level - 1, leaves));
+    }
+}
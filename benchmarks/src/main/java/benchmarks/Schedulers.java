@@ -0,0 +1,26 @@
+package benchmarks;
+
+import components.Scheduler;
+import schedulers.CachedThreadScheduler;
+import schedulers.ComputationScheduler;
+import schedulers.ForkJoinScheduler;
+import schedulers.SingleThreadScheduler;
+import schedulers.VirtualThreadScheduler;
+
+// Создание планировщика по имени из @Param
+final class Schedulers {
+
+    private Schedulers() {
+    }
+
+    static Scheduler create(String name) {
+        return switch (name) {
+            case "cached" -> new CachedThreadScheduler();
+            case "computation" -> new ComputationScheduler();
+            case "forkjoin" -> new ForkJoinScheduler();
+            case "single" -> new SingleThreadScheduler();
+            case "virtual" -> new VirtualThreadScheduler();
+            default -> throw new IllegalArgumentException("Unknown scheduler: " + name);
+        };
+    }
+}
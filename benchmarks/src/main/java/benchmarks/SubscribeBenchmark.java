@@ -0,0 +1,56 @@
+package benchmarks;
+
+import components.Disposable;
+import components.Observable;
+import components.Observer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Стоимость подписки и отписки без полезной нагрузки
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SubscribeBenchmark {
+
+    private final Observable<Integer> empty = Observable.create(Observer::onComplete);
+    private final Observable<Integer> single = Observable.fromArray(1);
+    private final Observable<Integer> chain = Observable.fromArray(1)
+            .map(x -> x + 1)
+            .filter(x -> x > 0)
+            .map(x -> x * 2)
+            .flatMap(x -> Observable.fromArray(x))
+            .map(x -> x - 1);
+
+    @Benchmark
+    public void subscribeDispose(Blackhole bh) {
+        Disposable disposable = empty.subscribe(bh::consume, bh::consume, () -> {
+        });
+        disposable.dispose();
+        bh.consume(disposable);
+    }
+
+    @Benchmark
+    public void subscribeSingleItem(Blackhole bh) {
+        bh.consume(single.subscribe(bh::consume, bh::consume, () -> {
+        }));
+    }
+
+    @Benchmark
+    public void subscribeOperatorChain(Blackhole bh) {
+        bh.consume(chain.subscribe(bh::consume, bh::consume, () -> {
+        }));
+    }
+}
@@ -64,12 +64,13 @@ public class Main {
             System.out.println("\nПример 3: Проверка disposable");
             Observable<Integer> infinite = Observable.create(observer -> {
                 int i = 0;
-                while (true) {
+                // Отписка прерывает поток источника и останавливает цикл
+                while (!observer.isDisposed()) {
                     observer.onNext(i++);
                     try {
                         Thread.sleep(100);
                     } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
+                        return;
                     }
                 }
             });
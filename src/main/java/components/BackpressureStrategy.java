@@ -0,0 +1,13 @@
+package components;
+
+public enum BackpressureStrategy {
+
+    // Буферизация элементов до появления спроса (размер буфера ограничен)
+    BUFFER,
+
+    // Отбрасывание элементов, на которые нет спроса
+    DROP,
+
+    // Хранение только последнего элемента, на который нет спроса
+    LATEST
+}
@@ -0,0 +1,165 @@
+package components;
+
+import operators.ObservableCache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Хранилище для Observable.cached: не больше maximumSize ключей с вытеснением давно не запрошенных (LRU) и,
+// если задано, истечением через ttl после загрузки. Один экземпляр обслуживает все вызовы cached с ним
+public final class CachePolicy<K, V> {
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final Scheduler scheduler;
+    // Порядок доступа: первым идет давно не запрошенный ключ
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private CachePolicy(int maximumSize, long ttlNanos, Scheduler scheduler) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize > 0 required but it was " + maximumSize);
+        }
+        if (ttlNanos <= 0) {
+            throw new IllegalArgumentException("ttl > 0 required but it was " + ttlNanos + " ns");
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttlNanos;
+        this.scheduler = scheduler;
+    }
+
+    public static <K, V> CachePolicy<K, V> lru(int maximumSize) {
+        return new CachePolicy<>(maximumSize, Long.MAX_VALUE, null);
+    }
+
+    // Истекшие записи удаляет задача на scheduler; до ее запуска они уже не выдаются как попадания
+    public static <K, V> CachePolicy<K, V> lru(int maximumSize, long ttl, TimeUnit unit, Scheduler scheduler) {
+        return new CachePolicy<>(maximumSize, unit.toNanos(ttl), scheduler);
+    }
+
+    // Промах создает ObservableCache над источником из supplier: параллельные подписчики на тот же ключ
+    // разделяют одну подписку на источник, пока она выполняется. Результат с ошибкой не переиспользуется
+    Observable<V> get(K key, Supplier<Observable<V>> supplier) {
+        Entry<V> entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            long now = System.nanoTime();
+            if (entry != null && !entry.cache.hasFailed() && !entry.expired(now)) {
+                hits.increment();
+                return entry.cache;
+            }
+            misses.increment();
+            if (entry != null) {
+                if (entry.expired(now)) {
+                    expirations.increment();
+                }
+                entries.remove(key);
+                entry.cancelExpiry();
+            }
+            entry = new Entry<>(new ObservableCache<>(supplier.get()), ttlNanos);
+            entries.put(key, entry);
+            evictOverflow();
+        }
+        if (scheduler != null) {
+            Entry<V> loaded = entry;
+            entry.expiry = scheduler.schedule(() -> expire(key, loaded), ttlNanos, TimeUnit.NANOSECONDS);
+        }
+        return entry.cache;
+    }
+
+    public void invalidate(K key) {
+        Entry<V> entry;
+        synchronized (entries) {
+            entry = entries.remove(key);
+        }
+        if (entry != null) {
+            entry.cancelExpiry();
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            for (Entry<V> entry : entries.values()) {
+                entry.cancelExpiry();
+            }
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public long expirations() {
+        return expirations.sum();
+    }
+
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while (entries.size() > maximumSize) {
+            Entry<V> entry = eldest.next();
+            eldest.remove();
+            entry.cancelExpiry();
+            evictions.increment();
+        }
+    }
+
+    // Удаляется только та загрузка, для которой назначена задача: ключ мог быть загружен заново
+    private void expire(K key, Entry<V> entry) {
+        synchronized (entries) {
+            if (!entries.remove(key, entry)) {
+                return;
+            }
+        }
+        expirations.increment();
+    }
+
+    private static final class Entry<V> {
+
+        final ObservableCache<V> cache;
+        final long deadline;
+        volatile Disposable expiry;
+
+        Entry(ObservableCache<V> cache, long ttlNanos) {
+            this.cache = cache;
+            this.deadline = ttlNanos == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + ttlNanos;
+        }
+
+        boolean expired(long now) {
+            return deadline != Long.MAX_VALUE && now - deadline >= 0;
+        }
+
+        void cancelExpiry() {
+            Disposable d = expiry;
+            if (d != null) {
+                d.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package components;
+
+import operators.ChunkPool;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractList;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// Пачка элементов от buffer: список только для чтения поверх массива из пула оператора
+public final class Chunk<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final VarHandle ITEMS;
+
+    static {
+        try {
+            ITEMS = MethodHandles.lookup().findVarHandle(Chunk.class, "items", Object[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final int size;
+    private final ChunkPool pool;
+    private volatile Object[] items;
+
+    public Chunk(Object[] items, int size, ChunkPool pool) {
+        this.items = items;
+        this.size = size;
+        this.pool = pool;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        Object[] array = items;
+        if (array == null) {
+            throw new IllegalStateException("Chunk was released");
+        }
+        return (T) array[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    // Возвращает массив в пул для следующих пачек; после вызова пачкой пользоваться нельзя.
+    // Подписчик, который сохраняет пачку, просто не вызывает release
+    public void release() {
+        // Массив забирает ровно один вызов: иначе две пачки из пула получили бы общий массив
+        Object[] array = (Object[]) ITEMS.getAndSet(this, null);
+        if (array != null) {
+            pool.release(array, size);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package components;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Предел одновременных внутренних потоков для flatMap, который подстраивается по времени их выполнения.
+// Один экземпляр можно разделить между подписками, обращающимися к одному сервису: предел и очередь общие
+public final class ConcurrencyLimiter {
+
+    private enum Algorithm {
+        AIMD,
+        GRADIENT
+    }
+
+    private static final double BACKOFF = 0.9;
+    private static final double SMOOTHING = 0.2;
+    private static final double TOLERANCE = 1.5;
+    private static final int LONG_WINDOW = 600;
+
+    private final Algorithm algorithm;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    // Подписки с ожидающими элементами: освободившееся место может занять любая из них
+    private final Set<Runnable> waiters = ConcurrentHashMap.newKeySet();
+    private volatile int limit;
+    private double estimate;
+    private double longLatency;
+
+    private ConcurrencyLimiter(Algorithm algorithm, int initialLimit, int maxLimit, long latencyThresholdNanos) {
+        if (initialLimit <= 0 || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("0 < initialLimit <= maxLimit required but it was " + initialLimit
+                    + " and " + maxLimit);
+        }
+        this.algorithm = algorithm;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.limit = initialLimit;
+        this.estimate = initialLimit;
+    }
+
+    // Предел растет на 1, пока внутренние потоки укладываются в latencyThreshold и места заняты хотя бы
+    // наполовину; медленное завершение или ошибка уменьшают его в 0.9 раза
+    public static ConcurrencyLimiter aimd(int initialLimit, int maxLimit, long latencyThreshold, TimeUnit unit) {
+        return new ConcurrencyLimiter(Algorithm.AIMD, initialLimit, maxLimit, unit.toNanos(latencyThreshold));
+    }
+
+    // Предел умножается на отношение долгосрочной средней задержки к текущей (не меньше 0.5, не больше 1)
+    // и получает запас sqrt(limit): рост задержки под нагрузкой снижает предел без заданного порога
+    public static ConcurrencyLimiter gradient(int initialLimit, int maxLimit) {
+        return new ConcurrencyLimiter(Algorithm.GRADIENT, initialLimit, maxLimit, 0);
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    // Элементы источника, ожидающие места
+    public int queued() {
+        return queued.get();
+    }
+
+    // Элементы, отброшенные при переполнении очереди со стратегией DROP
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    public boolean tryAcquire() {
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // latencyNanos < 0 - место освобождено без замера (отписка)
+    public void release(long latencyNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        if (latencyNanos >= 0) {
+            sample(latencyNanos, failed, current);
+        }
+        for (Runnable waiter : waiters) {
+            waiter.run();
+        }
+    }
+
+    public void addWaiter(Runnable waiter) {
+        waiters.add(waiter);
+    }
+
+    public void removeWaiter(Runnable waiter) {
+        waiters.remove(waiter);
+    }
+
+    public void onQueued(int delta) {
+        queued.addAndGet(delta);
+    }
+
+    public void onRejected() {
+        rejected.increment();
+    }
+
+    private synchronized void sample(long latencyNanos, boolean failed, int inFlightAtSample) {
+        double next;
+        if (algorithm == Algorithm.AIMD) {
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                next = estimate * BACKOFF;
+            } else if (inFlightAtSample * 2 >= limit) {
+                next = estimate + 1;
+            } else {
+                next = estimate;
+            }
+        } else {
+            double latency = Math.max(1, latencyNanos);
+            if (longLatency == 0) {
+                longLatency = latency;
+            } else {
+                longLatency += (latency - longLatency) * 2 / (LONG_WINDOW + 1);
+                // После перегрузки долгосрочная средняя долго остается завышенной: ускоряем ее возврат
+                if (longLatency / latency > 2) {
+                    longLatency *= 0.95;
+                }
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longLatency / latency));
+            if (failed) {
+                gradient = 0.5;
+            }
+            double target = estimate * gradient + Math.sqrt(estimate);
+            next = estimate * (1 - SMOOTHING) + target * SMOOTHING;
+        }
+        estimate = Math.max(1, Math.min(maxLimit, next));
+        limit = (int) estimate;
+    }
+}
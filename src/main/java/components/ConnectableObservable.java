@@ -0,0 +1,138 @@
+package components;
+
+import operators.DisposableHelper;
+import subjects.Subject;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// Один общий проход по источнику на всех подписчиков: источник запускается не при подписке, а при connect()
+public final class ConnectableObservable<T> extends Observable<T> {
+
+    private final Observable<T> source;
+    private final Supplier<Subject<T>> subjectFactory;
+    private final AtomicReference<Connection<T>> current = new AtomicReference<>();
+
+    ConnectableObservable(Observable<T> source, Supplier<Subject<T>> subjectFactory) {
+        this.source = source;
+        this.subjectFactory = subjectFactory;
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> observer) {
+        connection().subject.subscribe(observer);
+    }
+
+    // Повторный вызов при активном подключении возвращает то же подключение
+    public Disposable connect() {
+        Connection<T> connection = connection();
+        if (connection.connected.compareAndSet(false, true)) {
+            source.subscribe(connection);
+        }
+        return connection;
+    }
+
+    // Подключается при первом подписчике и отключается, когда отписался последний
+    public Observable<T> refCount() {
+        RefCount refCount = new RefCount();
+        return new Observable<>(observer -> {
+            boolean connect;
+            synchronized (refCount) {
+                connect = ++refCount.subscribers == 1;
+            }
+            observer.setCancellable(() -> {
+                Disposable connection = null;
+                synchronized (refCount) {
+                    if (--refCount.subscribers == 0) {
+                        connection = refCount.connection;
+                        refCount.connection = null;
+                    }
+                }
+                if (connection != null) {
+                    connection.dispose();
+                }
+            });
+            subscribe(observer);
+            if (connect) {
+                Disposable connection = connect();
+                boolean disconnect;
+                synchronized (refCount) {
+                    disconnect = refCount.subscribers == 0;
+                    if (!disconnect) {
+                        refCount.connection = connection;
+                    }
+                }
+                // Синхронный источник мог завершиться и отписать всех еще внутри connect()
+                if (disconnect) {
+                    connection.dispose();
+                }
+            }
+        });
+    }
+
+    private Connection<T> connection() {
+        for (;;) {
+            Connection<T> connection = current.get();
+            if (connection != null) {
+                return connection;
+            }
+            Connection<T> next = new Connection<>(this, subjectFactory.get());
+            if (current.compareAndSet(null, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static final class RefCount {
+        int subscribers;
+        Disposable connection;
+    }
+
+    // После завершения или отключения источника следующий connect() начинает новый проход с новым Subject
+    private static final class Connection<T> implements Observer<T>, Disposable {
+
+        final ConnectableObservable<T> parent;
+        final Subject<T> subject;
+        final AtomicReference<Disposable> upstream = new AtomicReference<>();
+        final AtomicBoolean connected = new AtomicBoolean();
+
+        Connection(ConnectableObservable<T> parent, Subject<T> subject) {
+            this.parent = parent;
+            this.subject = subject;
+        }
+
+        @Override
+        public void onSubscribe(Disposable disposable) {
+            DisposableHelper.set(upstream, disposable);
+        }
+
+        @Override
+        public void onNext(T item) {
+            subject.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.current.compareAndSet(this, null);
+            subject.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            parent.current.compareAndSet(this, null);
+            subject.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            parent.current.compareAndSet(this, null);
+            DisposableHelper.dispose(upstream);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return DisposableHelper.isDisposed(upstream);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package components;
+
+public interface DoubleEmitter extends DoubleObserver {
+
+    boolean isDisposed();
+
+    void setCancellable(Runnable cleanup);
+
+    void setDisposable(Disposable disposable);
+}
@@ -0,0 +1,328 @@
+package components;
+
+import operators.DoubleCreateEmitter;
+import operators.DoubleSummation;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+// Поток значений double без упаковки: операторы принимают примитивные функциональные интерфейсы
+public class DoubleObservable {
+    private final Consumer<DoubleEmitter> source;
+
+    public DoubleObservable(Consumer<DoubleEmitter> source) {
+        this.source = source;
+    }
+
+    public static DoubleObservable create(Consumer<DoubleEmitter> source) {
+        return new DoubleObservable(source);
+    }
+
+    public static DoubleObservable fromArray(double... values) {
+        return new DoubleObservable(emitter -> {
+            for (double value : values) {
+                if (emitter.isDisposed()) {
+                    return;
+                }
+                emitter.onNext(value);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    public Disposable subscribe(DoubleObserver observer) {
+        DoubleCreateEmitter emitter = new DoubleCreateEmitter(observer);
+        observer.onSubscribe(emitter);
+        try {
+            source.accept(emitter);
+        } catch (Exception e) {
+            emitter.onError(e);
+        }
+        return emitter;
+    }
+
+    public Disposable subscribe(DoubleConsumer onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        return subscribe(new DoubleObserver() {
+            @Override
+            public void onNext(double value) {
+                onNext.accept(value);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                onError.accept(e);
+            }
+
+            @Override
+            public void onComplete() {
+                onComplete.run();
+            }
+        });
+    }
+
+    public DoubleObservable map(DoubleUnaryOperator mapper) {
+        return new DoubleObservable(emitter -> subscribe(new DoubleObserver() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(double value) {
+                double result;
+                try {
+                    result = mapper.applyAsDouble(value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                    return;
+                }
+                emitter.onNext(result);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public DoubleObservable filter(DoublePredicate predicate) {
+        return new DoubleObservable(emitter -> subscribe(new DoubleObserver() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(double value) {
+                boolean accepted;
+                try {
+                    accepted = predicate.test(value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                    return;
+                }
+                if (accepted) {
+                    emitter.onNext(value);
+                }
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public <R> Observable<R> mapToObj(DoubleFunction<R> mapper) {
+        return new Observable<>(emitter -> subscribe(new DoubleObserver() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(double value) {
+                R result;
+                try {
+                    result = mapper.apply(value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                    return;
+                }
+                emitter.onNext(result);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public Observable<Double> boxed() {
+        return mapToObj(Double::valueOf);
+    }
+
+    public DoubleObservable reduce(double identity, DoubleBinaryOperator accumulator) {
+        return new DoubleObservable(emitter -> subscribe(new DoubleObserver() {
+            private double result = identity;
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(double value) {
+                try {
+                    result = accumulator.applyAsDouble(result, value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onNext(result);
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public DoubleObservable reduce(DoubleBinaryOperator accumulator) {
+        return new DoubleObservable(emitter -> subscribe(new DoubleObserver() {
+            private double result;
+            private boolean hasValue;
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(double value) {
+                if (!hasValue) {
+                    result = value;
+                    hasValue = true;
+                    return;
+                }
+                try {
+                    result = accumulator.applyAsDouble(result, value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                if (hasValue) {
+                    emitter.onNext(result);
+                }
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public DoubleObservable sum() {
+        return new DoubleObservable(emitter -> subscribe(new DoubleObserver() {
+            private final DoubleSummation sum = new DoubleSummation();
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(double value) {
+                sum.add(value);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onNext(sum.value());
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public DoubleObservable min() {
+        return reduce(Math::min);
+    }
+
+    public DoubleObservable max() {
+        return reduce(Math::max);
+    }
+
+    public LongObservable count() {
+        return new LongObservable(emitter -> subscribe(new DoubleObserver() {
+            private long count;
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(double value) {
+                count++;
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onNext(count);
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public DoubleObservable average() {
+        return new DoubleObservable(emitter -> subscribe(new DoubleObserver() {
+            private final DoubleSummation sum = new DoubleSummation();
+            private long count;
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(double value) {
+                sum.add(value);
+                count++;
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                if (count > 0) {
+                    emitter.onNext(sum.value() / count);
+                }
+                emitter.onComplete();
+            }
+        }));
+    }
+}
@@ -0,0 +1,14 @@
+package components;
+
+// Observer без упаковки: значения приходят как double
+public interface DoubleObserver {
+
+    default void onSubscribe(Disposable disposable) {
+    }
+
+    void onNext(double value);
+
+    void onError(Throwable e);
+
+    void onComplete();
+}
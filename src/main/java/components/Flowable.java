@@ -0,0 +1,181 @@
+package components;
+
+import operators.BaseEmitter;
+import operators.BufferEmitter;
+import operators.DropEmitter;
+import operators.FileChunkIterator;
+import operators.FilterSubscriber;
+import operators.FlatMapSubscriber;
+import operators.IteratorSubscription;
+import operators.LambdaSubscriber;
+import operators.LatestEmitter;
+import operators.MapSubscriber;
+import operators.ObserveOnSubscriber;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+public class Flowable<T> {
+
+    private static final int BUFFER_SIZE = 128;
+
+    private final Consumer<Subscriber<T>> source;
+
+    public Flowable(Consumer<Subscriber<T>> source) {
+        this.source = source;
+    }
+
+    public static int bufferSize() {
+        return BUFFER_SIZE;
+    }
+
+    // BUFFER по умолчанию копит не больше bufferSize() элементов; при переполнении - MissingBackpressureException
+    public static <T> Flowable<T> create(Consumer<FlowableEmitter<T>> source, BackpressureStrategy strategy) {
+        return create(source, strategy, BUFFER_SIZE);
+    }
+
+    public static <T> Flowable<T> create(Consumer<FlowableEmitter<T>> source, BackpressureStrategy strategy,
+                                         int capacity) {
+        return new Flowable<>(subscriber -> {
+            BaseEmitter<T> emitter = createEmitter(subscriber, strategy, capacity);
+            subscriber.onSubscribe(emitter);
+            try {
+                source.accept(emitter);
+            } catch (Exception e) {
+                emitter.onError(e);
+            }
+        });
+    }
+
+    public static <T> Flowable<T> fromIterable(Iterable<T> iterable) {
+        return new Flowable<>(subscriber -> IteratorSubscription.subscribe(subscriber, iterable.iterator()));
+    }
+
+    // Кусок файла читается только по запросу подписчика; отмена закрывает файл
+    public static Flowable<ByteBuffer> fromFile(Path path, int chunkSize) {
+        FileChunkIterator.validate(chunkSize);
+        return new Flowable<>(subscriber ->
+                IteratorSubscription.subscribe(subscriber, new FileChunkIterator(path, chunkSize, false)));
+    }
+
+    public static Flowable<ByteBuffer> fromMappedFile(Path path, int chunkSize) {
+        FileChunkIterator.validate(chunkSize);
+        return new Flowable<>(subscriber ->
+                IteratorSubscription.subscribe(subscriber, new FileChunkIterator(path, chunkSize, true)));
+    }
+
+    public static Flowable<Integer> range(int start, int count) {
+        return new Flowable<>(subscriber -> IteratorSubscription.subscribe(subscriber, new Iterator<>() {
+            private int index = start;
+            private final int end = start + count;
+
+            @Override
+            public boolean hasNext() {
+                return index < end;
+            }
+
+            @Override
+            public Integer next() {
+                if (index >= end) {
+                    throw new NoSuchElementException();
+                }
+                return index++;
+            }
+        }));
+    }
+
+    public void subscribe(Subscriber<T> subscriber) {
+        source.accept(subscriber);
+    }
+
+    public Disposable subscribe(Consumer<T> onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        LambdaSubscriber<T> subscriber = new LambdaSubscriber<>(onNext, onError, onComplete);
+        subscribe(subscriber);
+        return subscriber;
+    }
+
+    public <R> Flowable<R> map(Function<T, R> mapper) {
+        return new Flowable<>(subscriber -> subscribe(new MapSubscriber<>(subscriber, mapper)));
+    }
+
+    public Flowable<T> filter(Predicate<T> predicate) {
+        return new Flowable<>(subscriber -> subscribe(new FilterSubscriber<>(subscriber, predicate)));
+    }
+
+    public <R> Flowable<R> flatMap(Function<T, Flowable<R>> mapper) {
+        return flatMap(mapper, BUFFER_SIZE);
+    }
+
+    public <R> Flowable<R> flatMap(Function<T, Flowable<R>> mapper, int maxConcurrency) {
+        return new Flowable<>(subscriber ->
+                subscribe(new FlatMapSubscriber<>(subscriber, mapper, maxConcurrency, BUFFER_SIZE)));
+    }
+
+    public Flowable<T> subscribeOn(Scheduler scheduler) {
+        return new Flowable<>(subscriber -> scheduler.execute(() -> subscribe(subscriber)));
+    }
+
+    public Flowable<T> observeOn(Scheduler scheduler) {
+        return observeOn(scheduler, BUFFER_SIZE);
+    }
+
+    public Flowable<T> observeOn(Scheduler scheduler, int prefetch) {
+        return new Flowable<>(subscriber -> subscribe(new ObserveOnSubscriber<>(subscriber, scheduler, prefetch)));
+    }
+
+    public Flowable<T> onBackpressureBuffer(int capacity) {
+        return onBackpressure(BackpressureStrategy.BUFFER, capacity);
+    }
+
+    public Flowable<T> onBackpressureDrop() {
+        return onBackpressure(BackpressureStrategy.DROP, Integer.MAX_VALUE);
+    }
+
+    public Flowable<T> onBackpressureLatest() {
+        return onBackpressure(BackpressureStrategy.LATEST, Integer.MAX_VALUE);
+    }
+
+    private Flowable<T> onBackpressure(BackpressureStrategy strategy, int capacity) {
+        return new Flowable<>(subscriber -> {
+            BaseEmitter<T> emitter = createEmitter(subscriber, strategy, capacity);
+            subscriber.onSubscribe(emitter);
+            subscribe(new Subscriber<T>() {
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    // Источник игнорирует спрос, его переполнение обрабатывает стратегия
+                    emitter.setCancellable(subscription::cancel);
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(T item) {
+                    emitter.onNext(item);
+                }
+
+                @Override
+                public void onError(Throwable e) {
+                    emitter.onError(e);
+                }
+
+                @Override
+                public void onComplete() {
+                    emitter.onComplete();
+                }
+            });
+        });
+    }
+
+    private static <T> BaseEmitter<T> createEmitter(Subscriber<T> subscriber, BackpressureStrategy strategy,
+                                                    int capacity) {
+        return switch (strategy) {
+            case BUFFER -> new BufferEmitter<>(subscriber, capacity);
+            case DROP -> new DropEmitter<>(subscriber);
+            case LATEST -> new LatestEmitter<>(subscriber);
+        };
+    }
+}
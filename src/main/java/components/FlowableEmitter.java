@@ -0,0 +1,10 @@
+package components;
+
+public interface FlowableEmitter<T> extends Observer<T> {
+
+    long requested();
+
+    boolean isCancelled();
+
+    void setCancellable(Runnable onCancel);
+}
@@ -0,0 +1,15 @@
+package components;
+
+// Поток элементов одной группы groupBy; допускает одного подписчика
+public abstract class GroupedObservable<K, T> extends Observable<T> {
+
+    private final K key;
+
+    protected GroupedObservable(K key) {
+        this.key = key;
+    }
+
+    public K getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,10 @@
+package components;
+
+public interface IntEmitter extends IntObserver {
+
+    boolean isDisposed();
+
+    void setCancellable(Runnable cleanup);
+
+    void setDisposable(Disposable disposable);
+}
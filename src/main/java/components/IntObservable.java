@@ -0,0 +1,365 @@
+package components;
+
+import operators.IntCreateEmitter;
+
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+// Поток значений int без упаковки: операторы принимают примитивные функциональные интерфейсы
+public class IntObservable {
+    private final Consumer<IntEmitter> source;
+
+    public IntObservable(Consumer<IntEmitter> source) {
+        this.source = source;
+    }
+
+    public static IntObservable create(Consumer<IntEmitter> source) {
+        return new IntObservable(source);
+    }
+
+    public static IntObservable range(int start, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        return new IntObservable(emitter -> {
+            int end = start + count;
+            for (int i = start; i != end && !emitter.isDisposed(); i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    public static IntObservable fromArray(int... values) {
+        return new IntObservable(emitter -> {
+            for (int value : values) {
+                if (emitter.isDisposed()) {
+                    return;
+                }
+                emitter.onNext(value);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    public Disposable subscribe(IntObserver observer) {
+        IntCreateEmitter emitter = new IntCreateEmitter(observer);
+        observer.onSubscribe(emitter);
+        try {
+            source.accept(emitter);
+        } catch (Exception e) {
+            emitter.onError(e);
+        }
+        return emitter;
+    }
+
+    public Disposable subscribe(IntConsumer onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        return subscribe(new IntObserver() {
+            @Override
+            public void onNext(int value) {
+                onNext.accept(value);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                onError.accept(e);
+            }
+
+            @Override
+            public void onComplete() {
+                onComplete.run();
+            }
+        });
+    }
+
+    public IntObservable map(IntUnaryOperator mapper) {
+        return new IntObservable(emitter -> subscribe(new IntObserver() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(int value) {
+                int result;
+                try {
+                    result = mapper.applyAsInt(value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                    return;
+                }
+                emitter.onNext(result);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public IntObservable filter(IntPredicate predicate) {
+        return new IntObservable(emitter -> subscribe(new IntObserver() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(int value) {
+                boolean accepted;
+                try {
+                    accepted = predicate.test(value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                    return;
+                }
+                if (accepted) {
+                    emitter.onNext(value);
+                }
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public <R> Observable<R> mapToObj(IntFunction<R> mapper) {
+        return new Observable<>(emitter -> subscribe(new IntObserver() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(int value) {
+                R result;
+                try {
+                    result = mapper.apply(value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                    return;
+                }
+                emitter.onNext(result);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public Observable<Integer> boxed() {
+        return mapToObj(Integer::valueOf);
+    }
+
+    public LongObservable asLongObservable() {
+        return new LongObservable(emitter -> subscribe(new IntObserver() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(int value) {
+                emitter.onNext(value);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public DoubleObservable asDoubleObservable() {
+        return new DoubleObservable(emitter -> subscribe(new IntObserver() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(int value) {
+                emitter.onNext(value);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public IntObservable reduce(int identity, IntBinaryOperator accumulator) {
+        return new IntObservable(emitter -> subscribe(new IntObserver() {
+            private int result = identity;
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(int value) {
+                try {
+                    result = accumulator.applyAsInt(result, value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onNext(result);
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public IntObservable reduce(IntBinaryOperator accumulator) {
+        return new IntObservable(emitter -> subscribe(new IntObserver() {
+            private int result;
+            private boolean hasValue;
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(int value) {
+                if (!hasValue) {
+                    result = value;
+                    hasValue = true;
+                    return;
+                }
+                try {
+                    result = accumulator.applyAsInt(result, value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                if (hasValue) {
+                    emitter.onNext(result);
+                }
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public IntObservable sum() {
+        return reduce(0, Integer::sum);
+    }
+
+    public IntObservable min() {
+        return reduce(Math::min);
+    }
+
+    public IntObservable max() {
+        return reduce(Math::max);
+    }
+
+    public LongObservable count() {
+        return new LongObservable(emitter -> subscribe(new IntObserver() {
+            private long count;
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(int value) {
+                count++;
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onNext(count);
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public DoubleObservable average() {
+        return new DoubleObservable(emitter -> subscribe(new IntObserver() {
+            private long sum;
+            private long count;
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(int value) {
+                sum += value;
+                count++;
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                if (count > 0) {
+                    emitter.onNext((double) sum / count);
+                }
+                emitter.onComplete();
+            }
+        }));
+    }
+}
@@ -0,0 +1,14 @@
+package components;
+
+// Observer без упаковки: значения приходят как int
+public interface IntObserver {
+
+    default void onSubscribe(Disposable disposable) {
+    }
+
+    void onNext(int value);
+
+    void onError(Throwable e);
+
+    void onComplete();
+}
@@ -0,0 +1,10 @@
+package components;
+
+public interface LongEmitter extends LongObserver {
+
+    boolean isDisposed();
+
+    void setCancellable(Runnable cleanup);
+
+    void setDisposable(Disposable disposable);
+}
@@ -0,0 +1,341 @@
+package components;
+
+import operators.LongCreateEmitter;
+
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+// Поток значений long без упаковки: операторы принимают примитивные функциональные интерфейсы
+public class LongObservable {
+    private final Consumer<LongEmitter> source;
+
+    public LongObservable(Consumer<LongEmitter> source) {
+        this.source = source;
+    }
+
+    public static LongObservable create(Consumer<LongEmitter> source) {
+        return new LongObservable(source);
+    }
+
+    public static LongObservable range(long start, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        return new LongObservable(emitter -> {
+            long end = start + count;
+            for (long i = start; i != end && !emitter.isDisposed(); i++) {
+                emitter.onNext(i);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    public static LongObservable fromArray(long... values) {
+        return new LongObservable(emitter -> {
+            for (long value : values) {
+                if (emitter.isDisposed()) {
+                    return;
+                }
+                emitter.onNext(value);
+            }
+            emitter.onComplete();
+        });
+    }
+
+    public Disposable subscribe(LongObserver observer) {
+        LongCreateEmitter emitter = new LongCreateEmitter(observer);
+        observer.onSubscribe(emitter);
+        try {
+            source.accept(emitter);
+        } catch (Exception e) {
+            emitter.onError(e);
+        }
+        return emitter;
+    }
+
+    public Disposable subscribe(LongConsumer onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        return subscribe(new LongObserver() {
+            @Override
+            public void onNext(long value) {
+                onNext.accept(value);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                onError.accept(e);
+            }
+
+            @Override
+            public void onComplete() {
+                onComplete.run();
+            }
+        });
+    }
+
+    public LongObservable map(LongUnaryOperator mapper) {
+        return new LongObservable(emitter -> subscribe(new LongObserver() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(long value) {
+                long result;
+                try {
+                    result = mapper.applyAsLong(value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                    return;
+                }
+                emitter.onNext(result);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public LongObservable filter(LongPredicate predicate) {
+        return new LongObservable(emitter -> subscribe(new LongObserver() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(long value) {
+                boolean accepted;
+                try {
+                    accepted = predicate.test(value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                    return;
+                }
+                if (accepted) {
+                    emitter.onNext(value);
+                }
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public <R> Observable<R> mapToObj(LongFunction<R> mapper) {
+        return new Observable<>(emitter -> subscribe(new LongObserver() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(long value) {
+                R result;
+                try {
+                    result = mapper.apply(value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                    return;
+                }
+                emitter.onNext(result);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public Observable<Long> boxed() {
+        return mapToObj(Long::valueOf);
+    }
+
+    public DoubleObservable asDoubleObservable() {
+        return new DoubleObservable(emitter -> subscribe(new LongObserver() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(long value) {
+                emitter.onNext(value);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public LongObservable reduce(long identity, LongBinaryOperator accumulator) {
+        return new LongObservable(emitter -> subscribe(new LongObserver() {
+            private long result = identity;
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(long value) {
+                try {
+                    result = accumulator.applyAsLong(result, value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onNext(result);
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public LongObservable reduce(LongBinaryOperator accumulator) {
+        return new LongObservable(emitter -> subscribe(new LongObserver() {
+            private long result;
+            private boolean hasValue;
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(long value) {
+                if (!hasValue) {
+                    result = value;
+                    hasValue = true;
+                    return;
+                }
+                try {
+                    result = accumulator.applyAsLong(result, value);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                if (hasValue) {
+                    emitter.onNext(result);
+                }
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public LongObservable sum() {
+        return reduce(0, Long::sum);
+    }
+
+    public LongObservable min() {
+        return reduce(Math::min);
+    }
+
+    public LongObservable max() {
+        return reduce(Math::max);
+    }
+
+    public LongObservable count() {
+        return new LongObservable(emitter -> subscribe(new LongObserver() {
+            private long count;
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(long value) {
+                count++;
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onNext(count);
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public DoubleObservable average() {
+        return new DoubleObservable(emitter -> subscribe(new LongObserver() {
+            private double sum;
+            private long count;
+
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(long value) {
+                sum += value;
+                count++;
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                if (count > 0) {
+                    emitter.onNext(sum / count);
+                }
+                emitter.onComplete();
+            }
+        }));
+    }
+}
@@ -0,0 +1,14 @@
+package components;
+
+// Observer без упаковки: значения приходят как long
+public interface LongObserver {
+
+    default void onSubscribe(Disposable disposable) {
+    }
+
+    void onNext(long value);
+
+    void onError(Throwable e);
+
+    void onComplete();
+}
@@ -0,0 +1,10 @@
+package components;
+
+public class MissingBackpressureException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public MissingBackpressureException(String message) {
+        super(message);
+    }
+}
@@ -1,188 +1,581 @@
 package components;
 
-import java.util.ArrayList;
+import operators.BufferObserver;
+import operators.BufferTimedObserver;
+import operators.ChunkPool;
+import operators.CombineLatestCoordinator;
+import operators.CreateEmitter;
+import operators.CsvParser;
+import operators.DebounceObserver;
+import operators.DecodeObserver;
+import operators.DelayObserver;
+import operators.FlatMapObserver;
+import operators.FusedObservable;
+import operators.GroupByObserver;
+import operators.IntervalTask;
+import operators.JournalWriteObserver;
+import operators.LambdaEmitter;
+import operators.LinesObserver;
+import operators.ObservableCache;
+import operators.NdjsonParser;
+import operators.ObservableFromArray;
+import operators.ObservableFromFile;
+import operators.ObservableFromJournal;
+import operators.ObservableFromSocket;
+import operators.ObservableRange;
+import operators.ObserveOnObserver;
+import operators.RecordParser;
+import operators.SampleObserver;
+import operators.ScanObserver;
+import operators.SlidingAggregateObserver;
+import operators.SocketWriteObserver;
+import operators.StageChain;
+import operators.SubscribeOnObserver;
+import operators.TimeoutObserver;
+import operators.WindowObserver;
+import operators.WindowTimedObserver;
+import operators.ZipCoordinator;
+import plugins.Plugins;
+import schedulers.NioScheduler;
+import subjects.PublishSubject;
+import subjects.ReplaySubject;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public class Observable<T> {
-    private final Consumer<Observer<T>> source;
 
-    public Observable(Consumer<Observer<T>> source) {
+    private static final int MAPPED_CHUNK_SIZE = 1 << 20;
+    private static final int JOURNAL_SEGMENT_SIZE = 64 << 20;
+    private static final int JOURNAL_MAX_SEGMENTS = 16;
+    private static final int JOURNAL_SYNC_EVERY = 1024;
+
+    private final Consumer<ObservableEmitter<T>> source;
+
+    public Observable(Consumer<ObservableEmitter<T>> source) {
         this.source = source;
     }
 
-    public static <T> Observable<T> create(Consumer<Observer<T>> source) {
-        return new Observable<>(source);
+    // Для операторов и источников, которые сами реализуют subscribeActual
+    protected Observable() {
+        this.source = null;
+    }
+
+    public static <T> Observable<T> create(Consumer<ObservableEmitter<T>> source) {
+        return Plugins.onAssembly("create", new Observable<>(source));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Observable<T> fromArray(T... items) {
+        return Plugins.onAssembly("fromArray", new ObservableFromArray<>(items));
+    }
+
+    public static Observable<Integer> range(int start, int count) {
+        return Plugins.onAssembly("range", new ObservableRange(start, count));
+    }
+
+    // Файл читается кусками по chunkSize байт; каждый кусок - отдельный буфер, его можно хранить после onNext
+    public static Observable<ByteBuffer> fromFile(Path path, int chunkSize) {
+        return Plugins.onAssembly("fromFile", new ObservableFromFile(path, chunkSize, false));
+    }
+
+    public static Observable<ByteBuffer> fromMappedFile(Path path) {
+        return fromMappedFile(path, MAPPED_CHUNK_SIZE);
+    }
+
+    // Срезы отображенного в память файла: байты не копируются, буферы только для чтения
+    public static Observable<ByteBuffer> fromMappedFile(Path path, int chunkSize) {
+        return Plugins.onAssembly("fromMappedFile", new ObservableFromFile(path, chunkSize, true));
+    }
+
+    // Буферы из неблокирующего сокета; чтение и выдача идут в потоке цикла NioScheduler. Отписка до конца потока
+    // закрывает канал, а конец потока закрывает только чтение: запись writeTo в тот же сокет продолжается
+    public static Observable<ByteBuffer> fromSocket(SocketChannel channel, int bufferSize, NioScheduler scheduler) {
+        return Plugins.onAssembly("fromSocket", new ObservableFromSocket(channel, bufferSize, scheduler));
+    }
+
+    // Записи журнала, начиная с offset - порядкового номера записи с начала журнала (см. journal)
+    public static <T> Observable<T> fromJournal(Path dir, long offset, Serializer<T> serializer) {
+        return Plugins.onAssembly("fromJournal", new ObservableFromJournal<>(dir, offset, serializer));
+    }
+
+    // Строки UTF-8 из потока ByteBuffer, например из fromFile; строка может пересекать границу кусков
+    public static Observable<String> lines(Observable<ByteBuffer> source) {
+        return Plugins.onAssembly("lines", new Observable<>(observer ->
+                source.subscribe(new LinesObserver(observer))));
+    }
+
+    // Запись потока ByteBuffer в сокет; по завершении выдает число записанных байтов, канал остается открытым
+    public static Observable<Long> writeTo(Observable<ByteBuffer> source, SocketChannel channel,
+                                           NioScheduler scheduler) {
+        return Plugins.onAssembly("writeTo", new Observable<>(observer -> source.subscribe(
+                new SocketWriteObserver(observer, channel, scheduler.nextLoop(), Flowable.bufferSize()))));
+    }
+
+    // Записи NDJSON из потока ByteBuffer: одна строка - один плоский объект, значения выдаются текстом
+    public static Observable<Record> decodeNdjson(Observable<ByteBuffer> source) {
+        return Plugins.onAssembly("decodeNdjson", decode(source, NdjsonParser::new));
+    }
+
+    // Кадры делятся последовательно, а разбор записей идет на parallelism рельсах с сохранением порядка
+    public static Observable<Record> decodeNdjson(Observable<ByteBuffer> source, int parallelism,
+                                                  Scheduler scheduler) {
+        return Plugins.onAssembly("decodeNdjson", decode(source, NdjsonParser::new, parallelism, scheduler));
+    }
+
+    // Записи CSV из потока ByteBuffer; при header первая запись задает имена полей
+    public static Observable<Record> decodeCsv(Observable<ByteBuffer> source, char delimiter, boolean header) {
+        return Plugins.onAssembly("decodeCsv", decode(source, () -> new CsvParser(delimiter, header)));
+    }
+
+    public static Observable<Record> decodeCsv(Observable<ByteBuffer> source, char delimiter, boolean header,
+                                               int parallelism, Scheduler scheduler) {
+        return Plugins.onAssembly("decodeCsv", decode(source, () -> new CsvParser(delimiter, header), parallelism,
+                scheduler));
+    }
+
+    // Разборщик создается на каждую подписку: CsvParser хранит заголовок своего потока
+    private static Observable<Record> decode(Observable<ByteBuffer> source, Supplier<RecordParser> parsers) {
+        return new Observable<>(observer -> {
+            RecordParser parser = parsers.get();
+            source.subscribe(new DecodeObserver<>(observer, parser, (chars, length) -> parser.parse(chars, 0, length)));
+        });
+    }
+
+    private static Observable<Record> decode(Observable<ByteBuffer> source, Supplier<RecordParser> parsers,
+                                             int parallelism, Scheduler scheduler) {
+        return new Observable<>(observer -> {
+            RecordParser parser = parsers.get();
+            new Observable<char[]>(frames -> source.subscribe(new DecodeObserver<>(frames, parser, Arrays::copyOf)))
+                    .parallel(parallelism)
+                    .runOn(scheduler)
+                    .map(frame -> parser.parse(frame, 0, frame.length))
+                    .ordered()
+                    .subscribe(observer);
+        });
+    }
+
+    // Результат supplier для key хранится в policy: повторные подписки получают его повтором без нового запроса
+    public static <K, V> Observable<V> cached(K key, Supplier<Observable<V>> supplier, CachePolicy<K, V> policy) {
+        return Plugins.onAssembly("cached", new Observable<>(observer ->
+                policy.get(key, supplier).subscribe(observer)));
+    }
+
+    // Элементы всех источников в порядке поступления; источники могут работать на разных планировщиках
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Observable<T> merge(Observable<T>... sources) {
+        return fromArray(sources).flatMap(Function.identity());
     }
 
+    // Источники по очереди: следующий подписывается только после завершения предыдущего
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> Observable<T> concat(Observable<T>... sources) {
+        return fromArray(sources).concatMap(Function.identity());
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, R> Observable<R> zip(Observable<A> first, Observable<B> second,
+                                              BiFunction<A, B, R> zipper) {
+        return zip(List.of(first, second), row -> zipper.apply((A) row[0], (B) row[1]));
+    }
+
+    // i-й элемент результата собирается из i-х элементов всех источников; поток завершается вместе
+    // с самым коротким источником
+    public static <R> Observable<R> zip(List<? extends Observable<?>> sources, Function<Object[], R> zipper) {
+        Observable<?>[] array = sources.toArray(new Observable<?>[0]);
+        return Plugins.onAssembly("zip", new Observable<>(observer ->
+                new ZipCoordinator<>(observer, zipper, array.length, Flowable.bufferSize()).subscribe(array)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <A, B, R> Observable<R> combineLatest(Observable<A> first, Observable<B> second,
+                                                        BiFunction<A, B, R> combiner) {
+        return combineLatest(List.of(first, second), row -> combiner.apply((A) row[0], (B) row[1]));
+    }
+
+    // После первого значения от каждого источника любой новый элемент выдает комбинацию последних значений
+    public static <R> Observable<R> combineLatest(List<? extends Observable<?>> sources,
+                                                  Function<Object[], R> combiner) {
+        Observable<?>[] array = sources.toArray(new Observable<?>[0]);
+        return Plugins.onAssembly("combineLatest", new Observable<>(observer ->
+                new CombineLatestCoordinator<>(observer, combiner, array.length, Flowable.bufferSize())
+                        .subscribe(array)));
+    }
+
+    public static Observable<Long> interval(long period, TimeUnit unit, Scheduler scheduler) {
+        return interval(period, period, unit, scheduler);
+    }
+
+    public static Observable<Long> interval(long initialDelay, long period, TimeUnit unit, Scheduler scheduler) {
+        return Plugins.onAssembly("interval", new Observable<>(observer -> {
+            Scheduler.Worker worker = scheduler.createWorker();
+            observer.setDisposable(worker);
+            worker.schedulePeriodically(new IntervalTask(observer), initialDelay, period, unit);
+        }));
+    }
+
+    // Disposable выдается подписчику до первого элемента и по цепочке операторов отменяет сам источник
     public Disposable subscribe(Observer<T> observer) {
-        AtomicBoolean disposed = new AtomicBoolean(false);
+        CreateEmitter<T> emitter = new CreateEmitter<>(observer);
+        observer.onSubscribe(emitter);
+        subscribeEmitter(emitter);
+        return emitter;
+    }
+
+    protected void subscribeActual(ObservableEmitter<T> observer) {
+        source.accept(observer);
+    }
+
+    public Disposable subscribe(Consumer<T> onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        LambdaEmitter<T> emitter = new LambdaEmitter<>(onNext, onError, onComplete);
+        subscribeEmitter(emitter);
+        return emitter;
+    }
+
+    private void subscribeEmitter(ObservableEmitter<T> emitter) {
         try {
-            source.accept(new Observer<T>() {
-                @Override
-                public void onNext(T t) {
-                    if (!disposed.get()) {
-                        observer.onNext(t);
-                    }
-                }
+            subscribeActual(emitter);
+        } catch (Exception e) {
+            emitter.onError(e);
+        }
+    }
 
-                @Override
-                public void onError(Throwable e) {
-                    if (!disposed.get()) {
-                        observer.onError(e);
-                    }
-                }
+    public <R> Observable<R> map(Function<T, R> mapper) {
+        return Plugins.onAssembly("map", FusedObservable.map(this, mapper));
+    }
 
-                @Override
-                public void onComplete() {
-                    if (!disposed.get()) {
-                        observer.onComplete();
-                    }
+    public Observable<T> filter(Predicate<T> predicate) {
+        return Plugins.onAssembly("filter", FusedObservable.filter(this, predicate));
+    }
+
+    public IntObservable mapToInt(ToIntFunction<T> mapper) {
+        return new IntObservable(emitter -> subscribe(new Observer<T>() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(T item) {
+                int value;
+                try {
+                    value = mapper.applyAsInt(item);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                    return;
                 }
-            });
+                emitter.onNext(value);
+            }
 
-        } catch (Exception e) {
-            if (!disposed.get()) {
-                observer.onError(e);
+            @Override
+            public void onError(Throwable e) {
+                emitter.onError(e);
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.onComplete();
+            }
+        }));
+    }
+
+    public LongObservable mapToLong(ToLongFunction<T> mapper) {
+        return new LongObservable(emitter -> subscribe(new Observer<T>() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
+            @Override
+            public void onNext(T item) {
+                long value;
+                try {
+                    value = mapper.applyAsLong(item);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                    return;
+                }
+                emitter.onNext(value);
             }
-        }
 
-        return new Disposable() {
             @Override
-            public void dispose() {
-                disposed.set(true);
+            public void onError(Throwable e) {
+                emitter.onError(e);
             }
 
             @Override
-            public boolean isDisposed() {
-                return disposed.get();
+            public void onComplete() {
+                emitter.onComplete();
             }
-        };
+        }));
     }
 
-    public Disposable subscribe(Consumer<T> onNext, Consumer<Throwable> onError, Runnable onComplete) {
-        return subscribe(new Observer<T>() {
+    public DoubleObservable mapToDouble(ToDoubleFunction<T> mapper) {
+        return new DoubleObservable(emitter -> subscribe(new Observer<T>() {
+            @Override
+            public void onSubscribe(Disposable disposable) {
+                emitter.onSubscribe(disposable);
+            }
+
             @Override
             public void onNext(T item) {
-                onNext.accept(item);
+                double value;
+                try {
+                    value = mapper.applyAsDouble(item);
+                } catch (Exception e) {
+                    emitter.onError(e);
+                    return;
+                }
+                emitter.onNext(value);
             }
 
             @Override
             public void onError(Throwable e) {
-                onError.accept(e);
+                emitter.onError(e);
             }
 
             @Override
             public void onComplete() {
-                onComplete.run();
+                emitter.onComplete();
             }
-        });
+        }));
     }
 
-    public <R> Observable<R> map(Function<T, R> mapper) {
-        return new Observable<>(observer -> subscribe(
-                item -> {
-                    try {
-                        observer.onNext(mapper.apply(item));
-                    } catch (Exception e) {
-                        observer.onError(e);
-                    }
-                },
-                observer::onError,
-                observer::onComplete
-        ));
+    // Выдает seed, затем накопленное значение после каждого элемента; seed общий для всех подписок
+    public <R> Observable<R> scan(R seed, BiFunction<R, T, R> accumulator) {
+        return Plugins.onAssembly("scan", new Observable<>(observer -> {
+            ScanObserver<T, R> scanObserver = new ScanObserver<>(observer, seed, accumulator, true);
+            scanObserver.emitSeed();
+            subscribe(scanObserver);
+        }));
     }
 
-    public Observable<T> filter(Predicate<T> predicate) {
-        return new Observable<>(observer -> subscribe(
-                item -> {
-                    try {
-                        if (predicate.test(item)) {
-                            observer.onNext(item);
-                        }
-                    } catch (Exception e) {
-                        observer.onError(e);
-                    }
-                },
-                observer::onError,
-                observer::onComplete
-        ));
+    public Observable<T> scan(BinaryOperator<T> accumulator) {
+        return Plugins.onAssembly("scan", new Observable<>(observer ->
+                subscribe(new ScanObserver<T, T>(observer, accumulator, true))));
+    }
+
+    // Итог накопления выдается при завершении источника
+    public <R> Observable<R> reduce(R seed, BiFunction<R, T, R> accumulator) {
+        return Plugins.onAssembly("reduce", new Observable<>(observer ->
+                subscribe(new ScanObserver<>(observer, seed, accumulator, false))));
+    }
+
+    // Пустой источник завершается без элементов
+    public Observable<T> reduce(BinaryOperator<T> accumulator) {
+        return Plugins.onAssembly("reduce", new Observable<>(observer ->
+                subscribe(new ScanObserver<T, T>(observer, accumulator, false))));
+    }
+
+    // После каждого элемента выдает агрегат последних count элементов. combiner должен быть ассоциативным,
+    // обратная функция не нужна: max и min пересчитываются за O(1) в среднем на элемент
+    public <A> Observable<A> slidingAggregate(int count, Function<T, A> mapper, BinaryOperator<A> combiner) {
+        validateCount(count);
+        return Plugins.onAssembly("slidingAggregate", new Observable<>(observer -> subscribe(
+                new SlidingAggregateObserver<>(observer, mapper, combiner, count, Long.MAX_VALUE))));
+    }
+
+    // Агрегат элементов за последние timespan; устаревшие элементы вытесняются и по таймеру на scheduler
+    public <A> Observable<A> slidingAggregate(long timespan, TimeUnit unit, Function<T, A> mapper,
+                                              BinaryOperator<A> combiner, Scheduler scheduler) {
+        long timespanNanos = unit.toNanos(timespan);
+        if (timespanNanos <= 0) {
+            throw new IllegalArgumentException("timespan > 0 required but it was " + timespan);
+        }
+        return Plugins.onAssembly("slidingAggregate", new Observable<>(observer -> {
+            SlidingAggregateObserver<T, A> windowObserver = new SlidingAggregateObserver<>(observer, mapper, combiner,
+                    Integer.MAX_VALUE, timespanNanos);
+            windowObserver.start(scheduler);
+            subscribe(windowObserver);
+        }));
     }
 
     public <R> Observable<R> flatMap(Function<T, Observable<R>> mapper) {
-        return new Observable<>(observer -> {
-            AtomicBoolean disposed = new AtomicBoolean(false);
-            AtomicInteger activeCount = new AtomicInteger(1);
-            List<Disposable> innerDisposables = new ArrayList<>();
-
-            Disposable mainDisposable = subscribe(
-                    item -> {
-                        if (!disposed.get()) {
-                            try {
-                                activeCount.incrementAndGet();
-                                Observable<R> innerObservable = mapper.apply(item);
-                                Disposable innerDisposable = innerObservable.subscribe(
-                                        innerItem -> {
-                                            if (!disposed.get()) {
-                                                observer.onNext(innerItem);
-                                            }
-                                        },
-                                        error -> {
-                                            if (!disposed.get()) {
-                                                observer.onError(error);
-                                                disposed.set(true);
-                                            }
-                                        },
-                                        () -> {
-                                            if (activeCount.decrementAndGet() == 0 && !disposed.get()) {
-                                                observer.onComplete();
-                                            }
-                                        }
-                                );
-
-                                synchronized (innerDisposables) {
-                                    if (!disposed.get()) {
-                                        innerDisposables.add(innerDisposable);
-                                    } else {
-                                        innerDisposable.dispose();
-                                    }
-                                }
-                            } catch (Exception e) {
-                                if (!disposed.get()) {
-                                    observer.onError(e);
-                                    disposed.set(true);
-                                }
-                            }
-                        }
-                    },
-                    error -> {
-                        if (!disposed.get()) {
-                            observer.onError(error);
-                            disposed.set(true);
-                        }
-                    },
-                    () -> {
-                        if (activeCount.decrementAndGet() == 0 && !disposed.get()) {
-                            observer.onComplete();
-                        }
-                    }
-            );
-        });
+        return flatMap(mapper, Integer.MAX_VALUE);
+    }
+
+    public <R> Observable<R> flatMap(Function<T, Observable<R>> mapper, int maxConcurrency) {
+        return Plugins.onAssembly("flatMap", new Observable<>(observer ->
+                subscribe(new FlatMapObserver<>(observer, mapper, maxConcurrency, Flowable.bufferSize()))));
+    }
+
+    // Внутренние потоки выполняются строго по одному, порядок элементов источника сохраняется
+    public <R> Observable<R> concatMap(Function<T, Observable<R>> mapper) {
+        return Plugins.onAssembly("concatMap", new Observable<>(observer ->
+                subscribe(new FlatMapObserver<>(observer, mapper, 1, Flowable.bufferSize()))));
+    }
+
+    // Число одновременных внутренних потоков задает limiter по времени их выполнения; элементы сверх предела
+    // ждут в очереди до maxQueue, при ее переполнении BUFFER завершает поток ошибкой, а DROP отбрасывает элемент
+    public <R> Observable<R> flatMap(Function<T, Observable<R>> mapper, ConcurrencyLimiter limiter,
+                                     BackpressureStrategy overflow, int maxQueue) {
+        return Plugins.onAssembly("flatMap", new Observable<>(observer -> subscribe(
+                new FlatMapObserver<>(observer, mapper, limiter, overflow, maxQueue, Flowable.bufferSize()))));
+    }
+
+    // Одна подписка на источник; каждая новая группа выдается как GroupedObservable и получает элементы своего ключа
+    public <K> Observable<GroupedObservable<K, T>> groupBy(Function<T, K> keySelector) {
+        return Plugins.onAssembly("groupBy", new Observable<>(observer -> subscribe(
+                new GroupByObserver<>(observer, keySelector, Flowable.bufferSize(), Long.MAX_VALUE, null))));
+    }
+
+    // Каждая группа выдается на своем исполнителе scheduler, до подписки копит не больше bufferSize элементов
+    // и завершается после idleTimeout без элементов; следующий элемент того же ключа откроет новую группу
+    public <K> Observable<GroupedObservable<K, T>> groupBy(Function<T, K> keySelector, int bufferSize,
+                                                           long idleTimeout, TimeUnit unit, Scheduler scheduler) {
+        long idleNanos = unit.toNanos(idleTimeout);
+        if (idleNanos <= 0) {
+            throw new IllegalArgumentException("idleTimeout > 0 required but it was " + idleTimeout);
+        }
+        return Plugins.onAssembly("groupBy", new Observable<>(observer -> subscribe(
+                new GroupByObserver<>(observer, keySelector, bufferSize, idleNanos, scheduler))));
+    }
+
+    // Элементы раздаются по кругу на parallelism рельсов; см. ParallelObservable.runOn
+    public ParallelObservable<T> parallel(int parallelism) {
+        return new ParallelObservable<>(this, parallelism, null, StageChain.empty());
+    }
+
+    // Источник выполняется один раз при первой подписке; все подписчики, в том числе после завершения,
+    // получают сохраненные элементы и завершающий сигнал
+    public Observable<T> cache() {
+        return Plugins.onAssembly("cache", new ObservableCache<>(this));
+    }
+
+    public ConnectableObservable<T> publish() {
+        return new ConnectableObservable<>(this, PublishSubject::create);
+    }
+
+    // Подписчики, пришедшие после connect(), получают последние bufferSize элементов
+    public ConnectableObservable<T> replay(int bufferSize) {
+        return new ConnectableObservable<>(this, () -> ReplaySubject.createWithSize(bufferSize));
+    }
+
+    public ConnectableObservable<T> replay(long maxAge, TimeUnit unit, int bufferSize) {
+        return new ConnectableObservable<>(this, () -> ReplaySubject.createWithTimeAndSize(maxAge, unit, bufferSize));
+    }
+
+    public Observable<T> journal(Path dir, Serializer<T> serializer) {
+        return journal(dir, serializer, JOURNAL_SEGMENT_SIZE, JOURNAL_MAX_SEGMENTS, JOURNAL_SYNC_EVERY);
+    }
+
+    // Каждый элемент дописывается в журнал в каталоге dir и только затем передается дальше. Записи нумеруются
+    // подряд с начала журнала; хранятся не больше maxSegments сегментов по segmentSize байт. В один каталог
+    // одновременно пишет только одна подписка
+    public Observable<T> journal(Path dir, Serializer<T> serializer, int segmentSize, int maxSegments, int syncEvery) {
+        return Plugins.onAssembly("journal", new Observable<>(observer -> {
+            JournalWriteObserver<T> journalObserver = new JournalWriteObserver<>(observer, dir, serializer,
+                    segmentSize, maxSegments, syncEvery);
+            journalObserver.open();
+            subscribe(journalObserver);
+        }));
+    }
+
+    public Observable<T> share() {
+        return Plugins.onAssembly("share", publish().refCount());
     }
 
     public Observable<T> subscribeOn(Scheduler scheduler) {
-        return new Observable<>(observer -> scheduler.execute(() -> subscribe(observer)));
+        return Plugins.onAssembly("subscribeOn", new Observable<>(observer -> {
+            SubscribeOnObserver<T> parent = new SubscribeOnObserver<>(observer, this);
+            observer.onSubscribe(parent);
+            scheduler.execute(parent);
+        }));
     }
 
     public Observable<T> observeOn(Scheduler scheduler) {
-        return new Observable<>(observer -> subscribe(
-                item -> scheduler.execute(() -> observer.onNext(item)),
-                error -> scheduler.execute(() -> observer.onError(error)),
-                () -> scheduler.execute(observer::onComplete)
-        ));
+        return observeOn(scheduler, Flowable.bufferSize());
+    }
+
+    public Observable<T> observeOn(Scheduler scheduler, int bufferSize) {
+        return Plugins.onAssembly("observeOn", new Observable<>(observer ->
+                subscribe(new ObserveOnObserver<>(observer, scheduler, bufferSize))));
+    }
+
+    public Observable<T> delay(long delay, TimeUnit unit, Scheduler scheduler) {
+        return Plugins.onAssembly("delay", new Observable<>(observer ->
+                subscribe(new DelayObserver<>(observer, delay, unit, scheduler))));
+    }
+
+    public Observable<T> timeout(long timeout, TimeUnit unit, Scheduler scheduler) {
+        return Plugins.onAssembly("timeout", new Observable<>(observer -> {
+            TimeoutObserver<T> timeoutObserver = new TimeoutObserver<>(observer, timeout, unit, scheduler);
+            timeoutObserver.start();
+            subscribe(timeoutObserver);
+        }));
+    }
+
+    public Observable<T> debounce(long timeout, TimeUnit unit, Scheduler scheduler) {
+        return Plugins.onAssembly("debounce", new Observable<>(observer ->
+                subscribe(new DebounceObserver<>(observer, timeout, unit, scheduler))));
+    }
+
+    public Observable<T> sample(long period, TimeUnit unit, Scheduler scheduler) {
+        return Plugins.onAssembly("sample", new Observable<>(observer -> {
+            SampleObserver<T> sampleObserver = new SampleObserver<>(observer);
+            sampleObserver.start(period, unit, scheduler);
+            subscribe(sampleObserver);
+        }));
+    }
+
+    public Observable<Chunk<T>> buffer(int count) {
+        validateCount(count);
+        return Plugins.onAssembly("buffer", new Observable<>(observer ->
+                subscribe(new BufferObserver<>(observer, count, new ChunkPool(count)))));
+    }
+
+    public Observable<Chunk<T>> buffer(long timespan, TimeUnit unit, int count, Scheduler scheduler) {
+        validateCount(count);
+        return Plugins.onAssembly("buffer", new Observable<>(observer -> {
+            BufferTimedObserver<T> bufferObserver = new BufferTimedObserver<>(observer, count, new ChunkPool(count));
+            bufferObserver.start(timespan, unit, scheduler);
+            subscribe(bufferObserver);
+        }));
+    }
+
+    public Observable<Observable<T>> window(int count) {
+        validateCount(count);
+        return Plugins.onAssembly("window", new Observable<>(observer ->
+                subscribe(new WindowObserver<>(observer, count, Flowable.bufferSize()))));
+    }
+
+    public Observable<Observable<T>> window(long timespan, TimeUnit unit, int count, Scheduler scheduler) {
+        validateCount(count);
+        return Plugins.onAssembly("window", new Observable<>(observer -> {
+            WindowTimedObserver<T> windowObserver = new WindowTimedObserver<>(observer, count, Flowable.bufferSize());
+            windowObserver.start(timespan, unit, scheduler);
+            subscribe(windowObserver);
+        }));
+    }
+
+    // Буфер BUFFER ограничен Flowable.bufferSize(); больший задается явно через capacity
+    public Flowable<T> toFlowable(BackpressureStrategy strategy) {
+        return toFlowable(strategy, Flowable.bufferSize());
+    }
+
+    public Flowable<T> toFlowable(BackpressureStrategy strategy, int capacity) {
+        return Flowable.create(this::subscribe, strategy, capacity);
+    }
+
+    private static void validateCount(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count > 0 required but it was " + count);
+        }
     }
 }
\ No newline at end of file
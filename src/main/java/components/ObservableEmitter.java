@@ -0,0 +1,11 @@
+package components;
+
+public interface ObservableEmitter<T> extends Observer<T> {
+
+    boolean isDisposed();
+
+    // Действие выполнится при отписке или завершении; можно зарегистрировать несколько
+    void setCancellable(Runnable cleanup);
+
+    void setDisposable(Disposable disposable);
+}
@@ -2,6 +2,10 @@ package components;
 
 public interface Observer<T> {
 
+    // Вызывается до первого элемента: через Disposable можно отменить источник еще во время эмиссии
+    default void onSubscribe(Disposable disposable) {
+    }
+
     void onNext(T item);
 
     void onError(Throwable e);
@@ -0,0 +1,75 @@
+package components;
+
+import operators.ParallelRunner;
+import operators.StageChain;
+
+import java.util.Comparator;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// Источник, разделенный на рельсы: map и filter выполняются на каждой рельсе параллельно,
+// а sequential, ordered, sorted или reduce собирают результаты обратно в Observable
+public final class ParallelObservable<T> {
+
+    private final Observable<Object> source;
+    private final int parallelism;
+    private final Scheduler scheduler;
+    private final StageChain chain;
+
+    @SuppressWarnings("unchecked")
+    ParallelObservable(Observable<?> source, int parallelism, Scheduler scheduler, StageChain chain) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism > 0 required but it was " + parallelism);
+        }
+        this.source = (Observable<Object>) source;
+        this.parallelism = parallelism;
+        this.scheduler = scheduler;
+        this.chain = chain;
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    // Каждая рельса получает своего Worker; без runOn рельсы выполняются в потоке источника
+    public ParallelObservable<T> runOn(Scheduler scheduler) {
+        return new ParallelObservable<>(source, parallelism, scheduler, chain);
+    }
+
+    public <R> ParallelObservable<R> map(Function<T, R> mapper) {
+        return new ParallelObservable<>(source, parallelism, scheduler, chain.map(mapper));
+    }
+
+    public ParallelObservable<T> filter(Predicate<T> predicate) {
+        return new ParallelObservable<>(source, parallelism, scheduler, chain.filter(predicate));
+    }
+
+    public Observable<T> sequential() {
+        return join(ParallelRunner.Join.SEQUENTIAL, null, null, null, null);
+    }
+
+    public Observable<T> ordered() {
+        return join(ParallelRunner.Join.ORDERED, null, null, null, null);
+    }
+
+    public Observable<T> sorted(Comparator<? super T> comparator) {
+        return join(ParallelRunner.Join.SORTED, comparator, null, null, null);
+    }
+
+    public <R> Observable<R> reduce(Supplier<R> seed, BiFunction<R, T, R> accumulator, BinaryOperator<R> combiner) {
+        return join(ParallelRunner.Join.REDUCE, null, seed, accumulator, combiner);
+    }
+
+    public Observable<T> reduce(BinaryOperator<T> reducer) {
+        return join(ParallelRunner.Join.REDUCE, null, null, reducer, reducer);
+    }
+
+    private <R> Observable<R> join(ParallelRunner.Join join, Comparator<?> comparator, Supplier<?> seed,
+                                   BiFunction<?, ?, ?> accumulator, BinaryOperator<?> combiner) {
+        return new Observable<>(observer -> source.subscribe(new ParallelRunner<>(observer, parallelism, scheduler,
+                chain, join, comparator, seed, accumulator, combiner, Flowable.bufferSize())));
+    }
+}
@@ -0,0 +1,89 @@
+package components;
+
+import java.util.Objects;
+
+// Запись из decodeNdjson/decodeCsv: упорядоченные поля со значениями в виде текста.
+// Для JSON вложенные объекты и массивы хранятся исходным текстом, null - как null
+public final class Record {
+
+    private final String[] names;
+    private final String[] values;
+    private final int size;
+
+    // names может быть null, если у полей нет имен (CSV без заголовка)
+    public Record(String[] names, String[] values, int size) {
+        this.names = names;
+        this.values = values;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return values[index];
+    }
+
+    public String name(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return names == null || index >= names.length ? null : names[index];
+    }
+
+    // Полей в записи обычно немного, поэтому линейный поиск дешевле хеш-таблицы на каждую запись
+    public String get(String name) {
+        if (names == null) {
+            return null;
+        }
+        int limit = Math.min(size, names.length);
+        for (int i = 0; i < limit; i++) {
+            if (name.equals(names[i])) {
+                return values[i];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Record{");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            String name = name(i);
+            sb.append(name == null ? String.valueOf(i) : name).append('=').append(values[i]);
+        }
+        return sb.append('}').toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Record other) || size != other.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(name(i), other.name(i)) || !Objects.equals(values[i], other.values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = size;
+        for (int i = 0; i < size; i++) {
+            hash = 31 * hash + Objects.hashCode(values[i]);
+        }
+        return hash;
+    }
+}
@@ -1,8 +1,36 @@
 package components;
 
+import schedulers.HashedWheelTimer;
+import schedulers.SerialWorker;
+
+import java.util.concurrent.TimeUnit;
+
 public interface Scheduler {
 
     void execute(Runnable task);
 
     void shutdown();
+
+    // Ожидание ведет общий таймер, по истечении задержки задача передается в execute
+    default Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return HashedWheelTimer.shared().schedule(() -> execute(task), delay, unit);
+    }
+
+    default Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return HashedWheelTimer.shared().schedulePeriodically(() -> execute(task), initialDelay, period, unit);
+    }
+
+    // Исполнитель для одной подписки: задачи выполняются строго по очереди, без параллелизма
+    default Worker createWorker() {
+        return new SerialWorker(this);
+    }
+
+    interface Worker extends Disposable {
+
+        void execute(Runnable task);
+
+        Disposable schedule(Runnable task, long delay, TimeUnit unit);
+
+        Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit);
+    }
 }
@@ -0,0 +1,26 @@
+package components;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Представление элемента в журнале. deserialize получает срез отображенного файла только для чтения
+public interface Serializer<T> {
+
+    byte[] serialize(T item);
+
+    T deserialize(ByteBuffer bytes);
+
+    static Serializer<String> utf8() {
+        return new Serializer<>() {
+            @Override
+            public byte[] serialize(String item) {
+                return item.getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public String deserialize(ByteBuffer bytes) {
+                return StandardCharsets.UTF_8.decode(bytes).toString();
+            }
+        };
+    }
+}
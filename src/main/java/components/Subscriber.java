@@ -0,0 +1,12 @@
+package components;
+
+public interface Subscriber<T> {
+
+    void onSubscribe(Subscription subscription);
+
+    void onNext(T item);
+
+    void onError(Throwable e);
+
+    void onComplete();
+}
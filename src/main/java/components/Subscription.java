@@ -0,0 +1,8 @@
+package components;
+
+public interface Subscription {
+
+    void request(long n);
+
+    void cancel();
+}
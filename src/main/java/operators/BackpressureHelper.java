@@ -0,0 +1,48 @@
+package operators;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class BackpressureHelper {
+
+    private BackpressureHelper() {
+    }
+
+    public static long addCap(long a, long b) {
+        long sum = a + b;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    // Добавляет n к счетчику спроса без переполнения, возвращает предыдущее значение
+    public static long add(AtomicLong requested, long n) {
+        for (;;) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            if (requested.compareAndSet(current, addCap(current, n))) {
+                return current;
+            }
+        }
+    }
+
+    // Вычитает выданные элементы из спроса, неограниченный спрос не уменьшается
+    public static long produced(AtomicLong requested, long n) {
+        for (;;) {
+            long current = requested.get();
+            if (current == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            long update = current - n;
+            if (update < 0) {
+                update = 0;
+            }
+            if (requested.compareAndSet(current, update)) {
+                return update;
+            }
+        }
+    }
+
+    public static boolean validate(long n) {
+        return n > 0;
+    }
+}
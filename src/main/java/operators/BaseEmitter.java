@@ -0,0 +1,107 @@
+package operators;
+
+import components.Disposable;
+import components.FlowableEmitter;
+import components.Subscriber;
+import components.Subscription;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public abstract class BaseEmitter<T> implements FlowableEmitter<T>, Subscription {
+
+    private static final Runnable CANCELLED = () -> {
+    };
+
+    protected final Subscriber<T> downstream;
+    protected final AtomicLong requested = new AtomicLong();
+    private final AtomicReference<Runnable> onCancel = new AtomicReference<>();
+
+    protected BaseEmitter(Subscriber<T> downstream) {
+        this.downstream = downstream;
+    }
+
+    // Мост из Observable: отмена Subscription отменяет источник еще до окончания его эмиссии
+    @Override
+    public void onSubscribe(Disposable disposable) {
+        setCancellable(disposable::dispose);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (isCancelled()) {
+            return;
+        }
+        try {
+            downstream.onError(e);
+        } finally {
+            cleanup();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (isCancelled()) {
+            return;
+        }
+        try {
+            downstream.onComplete();
+        } finally {
+            cleanup();
+        }
+    }
+
+    @Override
+    public final void request(long n) {
+        if (!BackpressureHelper.validate(n)) {
+            cancel();
+            downstream.onError(new IllegalArgumentException("n > 0 required but it was " + n));
+            return;
+        }
+        BackpressureHelper.add(requested, n);
+        onRequested();
+    }
+
+    @Override
+    public final void cancel() {
+        cleanup();
+        onCancelled();
+    }
+
+    @Override
+    public final long requested() {
+        return requested.get();
+    }
+
+    @Override
+    public final boolean isCancelled() {
+        return onCancel.get() == CANCELLED;
+    }
+
+    @Override
+    public final void setCancellable(Runnable cancellable) {
+        for (;;) {
+            Runnable current = onCancel.get();
+            if (current == CANCELLED) {
+                cancellable.run();
+                return;
+            }
+            if (onCancel.compareAndSet(current, cancellable)) {
+                return;
+            }
+        }
+    }
+
+    private void cleanup() {
+        Runnable current = onCancel.getAndSet(CANCELLED);
+        if (current != null && current != CANCELLED) {
+            current.run();
+        }
+    }
+
+    protected void onRequested() {
+    }
+
+    protected void onCancelled() {
+    }
+}
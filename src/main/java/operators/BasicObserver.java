@@ -0,0 +1,57 @@
+package operators;
+
+import components.Disposable;
+import components.Observer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Основа операторов: Observer источника, Disposable для подписчика и ссылка на подписку выше по цепочке
+// в одном объекте; ссылка хранится в поле через VarHandle, без отдельного AtomicReference на каждую подписку
+public abstract class BasicObserver<T, R> implements Observer<T>, Disposable {
+
+    private static final VarHandle UPSTREAM;
+
+    static {
+        try {
+            UPSTREAM = MethodHandles.lookup().findVarHandle(BasicObserver.class, "upstream", Disposable.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    protected final Observer<R> downstream;
+    private volatile Disposable upstream;
+
+    protected BasicObserver(Observer<R> downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void onSubscribe(Disposable disposable) {
+        setUpstream(disposable);
+        downstream.onSubscribe(this);
+    }
+
+    @Override
+    public void dispose() {
+        disposeUpstream();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return isUpstreamDisposed();
+    }
+
+    protected final boolean setUpstream(Disposable disposable) {
+        return DisposableHelper.set(UPSTREAM, this, disposable);
+    }
+
+    protected final boolean disposeUpstream() {
+        return DisposableHelper.dispose(UPSTREAM, this);
+    }
+
+    protected final boolean isUpstreamDisposed() {
+        return DisposableHelper.isDisposed(upstream);
+    }
+}
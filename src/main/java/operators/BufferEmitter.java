@@ -0,0 +1,49 @@
+package operators;
+
+import components.Subscriber;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class BufferEmitter<T> extends DrainEmitter<T> {
+
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int capacity;
+
+    public BufferEmitter(Subscriber<T> downstream, int capacity) {
+        super(downstream);
+        this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean offer(T item) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            return false;
+        }
+        queue.offer(item);
+        return true;
+    }
+
+    @Override
+    protected T poll() {
+        T item = queue.poll();
+        if (item != null) {
+            size.decrementAndGet();
+        }
+        return item;
+    }
+
+    @Override
+    protected boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    protected void clear() {
+        queue.clear();
+        size.set(0);
+    }
+}
@@ -0,0 +1,51 @@
+package operators;
+
+import components.Chunk;
+import components.Observer;
+
+public final class BufferObserver<T> extends BasicObserver<T, Chunk<T>> {
+
+    private final int count;
+    private final ChunkPool pool;
+    private Object[] current;
+    private int size;
+
+    public BufferObserver(Observer<Chunk<T>> downstream, int count, ChunkPool pool) {
+        super(downstream);
+        this.count = count;
+        this.pool = pool;
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (current == null) {
+            current = pool.acquire();
+        }
+        current[size++] = item;
+        if (size == count) {
+            emit();
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        current = null;
+        downstream.onError(e);
+    }
+
+    @Override
+    public void onComplete() {
+        if (size > 0) {
+            emit();
+        }
+        downstream.onComplete();
+    }
+
+    // Массив уходит подписчику без копирования, следующая пачка берет новый массив из пула
+    private void emit() {
+        Chunk<T> chunk = new Chunk<>(current, size, pool);
+        current = null;
+        size = 0;
+        downstream.onNext(chunk);
+    }
+}
@@ -0,0 +1,112 @@
+package operators;
+
+import components.Chunk;
+import components.Disposable;
+import components.Observer;
+import components.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+// Пачка закрывается по достижении count или по таймеру, смотря что наступит раньше
+public final class BufferTimedObserver<T> extends BasicObserver<T, Chunk<T>> implements Runnable {
+
+    private final int count;
+    private final ChunkPool pool;
+    private Object[] current;
+    private int size;
+    private boolean done;
+    private Disposable timer;
+
+    public BufferTimedObserver(Observer<Chunk<T>> downstream, int count, ChunkPool pool) {
+        super(downstream);
+        this.count = count;
+        this.pool = pool;
+    }
+
+    public void start(long timespan, TimeUnit unit, Scheduler scheduler) {
+        downstream.onSubscribe(this);
+        Disposable task = scheduler.schedulePeriodically(this, timespan, timespan, unit);
+        synchronized (this) {
+            if (done) {
+                task.dispose();
+            } else {
+                timer = task;
+            }
+        }
+    }
+
+    @Override
+    public void onSubscribe(Disposable disposable) {
+        setUpstream(disposable);
+    }
+
+    @Override
+    public synchronized void onNext(T item) {
+        if (done) {
+            return;
+        }
+        if (current == null) {
+            current = pool.acquire();
+        }
+        current[size++] = item;
+        if (size == count) {
+            emit();
+        }
+    }
+
+    @Override
+    public synchronized void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        terminate();
+        downstream.onError(e);
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        if (done) {
+            return;
+        }
+        if (size > 0) {
+            emit();
+        }
+        terminate();
+        downstream.onComplete();
+    }
+
+    // Срабатывание таймера: неполная пачка выдается как есть, пустые пачки не выдаются
+    @Override
+    public synchronized void run() {
+        if (!done && size > 0) {
+            emit();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposeUpstream();
+        synchronized (this) {
+            terminate();
+        }
+    }
+
+    private void emit() {
+        Chunk<T> chunk = new Chunk<>(current, size, pool);
+        current = null;
+        size = 0;
+        downstream.onNext(chunk);
+    }
+
+    private void terminate() {
+        done = true;
+        if (current != null) {
+            pool.release(current, size);
+            current = null;
+            size = 0;
+        }
+        if (timer != null) {
+            timer.dispose();
+        }
+    }
+}
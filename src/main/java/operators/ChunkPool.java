@@ -0,0 +1,38 @@
+package operators;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Небольшой пул массивов под пачки одного размера; освобождать массив может поток подписчика
+public final class ChunkPool {
+
+    // Подписчик обычно держит одну пачку, пока пишет ее, и еще несколько могут быть в пути
+    private static final int POOL_SIZE = 4;
+
+    private final int chunkSize;
+    private final AtomicReferenceArray<Object[]> slots = new AtomicReferenceArray<>(POOL_SIZE);
+
+    public ChunkPool(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public Object[] acquire() {
+        for (int i = 0; i < slots.length(); i++) {
+            Object[] array = slots.get(i);
+            if (array != null && slots.compareAndSet(i, array, null)) {
+                return array;
+            }
+        }
+        return new Object[chunkSize];
+    }
+
+    // Массив очищается, чтобы пул не удерживал элементы; если пул полон, массив достается сборщику мусора
+    public void release(Object[] array, int size) {
+        Arrays.fill(array, 0, size, null);
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) == null && slots.compareAndSet(i, null, array)) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package operators;
+
+import components.Observable;
+import components.ObservableEmitter;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// combineLatest: каждый новый элемент любого источника выдает комбинацию последних значений всех источников.
+// Очереди источников разбираются по кругу одним потоком, захватившим wip, без блокировок
+public final class CombineLatestCoordinator<R> implements Runnable {
+
+    private final ObservableEmitter<R> downstream;
+    private final Function<Object[], R> combiner;
+    private final QueuedInnerObserver<Object>[] inners;
+    private final Object[] latest;
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile boolean cancelled;
+    // Число источников, уже давших хотя бы одно значение; меняется только в цикле выдачи
+    private int present;
+
+    @SuppressWarnings("unchecked")
+    public CombineLatestCoordinator(ObservableEmitter<R> downstream, Function<Object[], R> combiner, int count,
+                                    int bufferSize) {
+        this.downstream = downstream;
+        this.combiner = combiner;
+        this.inners = (QueuedInnerObserver<Object>[]) new QueuedInnerObserver<?>[count];
+        for (int i = 0; i < count; i++) {
+            inners[i] = new QueuedInnerObserver<>(bufferSize, this);
+        }
+        this.latest = new Object[count];
+    }
+
+    @SuppressWarnings("unchecked")
+    public void subscribe(Observable<?>[] sources) {
+        downstream.setCancellable(this::cancel);
+        if (sources.length == 0) {
+            downstream.onComplete();
+            return;
+        }
+        for (int i = 0; i < sources.length && !cancelled; i++) {
+            ((Observable<Object>) sources[i]).subscribe(inners[i]);
+        }
+    }
+
+    // Вызывается источниками после каждого сигнала
+    @Override
+    public void run() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            for (;;) {
+                if (cancelled) {
+                    clear();
+                    return;
+                }
+                boolean progressed = false;
+                int finished = 0;
+                // По одному элементу из каждой очереди за проход: быстрый источник не задерживает остальные
+                for (int i = 0; i < inners.length; i++) {
+                    QueuedInnerObserver<Object> inner = inners[i];
+                    boolean d = inner.done;
+                    if (d && inner.error != null) {
+                        terminate(inner.error);
+                        return;
+                    }
+                    Object item = inner.queue.poll();
+                    if (item == null) {
+                        if (d) {
+                            // Источник завершился без единого значения: комбинаций больше не будет
+                            if (latest[i] == null) {
+                                terminate(null);
+                                return;
+                            }
+                            finished++;
+                        }
+                        continue;
+                    }
+                    progressed = true;
+                    if (latest[i] == null) {
+                        present++;
+                    }
+                    latest[i] = item;
+                    if (present == inners.length) {
+                        R result;
+                        try {
+                            result = combiner.apply(latest.clone());
+                        } catch (Exception e) {
+                            terminate(e);
+                            return;
+                        }
+                        downstream.onNext(result);
+                    }
+                }
+                if (finished == inners.length) {
+                    terminate(null);
+                    return;
+                }
+                if (!progressed) {
+                    break;
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private void terminate(Throwable error) {
+        cancel();
+        clear();
+        if (error != null) {
+            downstream.onError(error);
+        } else {
+            downstream.onComplete();
+        }
+    }
+
+    private void cancel() {
+        cancelled = true;
+        for (QueuedInnerObserver<Object> inner : inners) {
+            inner.dispose();
+        }
+    }
+
+    private void clear() {
+        Arrays.fill(latest, null);
+        for (QueuedInnerObserver<Object> inner : inners) {
+            inner.queue.clear();
+        }
+    }
+}
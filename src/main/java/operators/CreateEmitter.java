@@ -0,0 +1,43 @@
+package operators;
+
+import components.ObservableEmitter;
+import components.Observer;
+
+// Связывает подписчика с источником: отписка освобождает все ресурсы источника, включая подписку выше по цепочке
+public final class CreateEmitter<T> extends DisposableEmitter implements ObservableEmitter<T> {
+
+    private final Observer<T> downstream;
+
+    public CreateEmitter(Observer<T> downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (!isDisposed()) {
+            downstream.onNext(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (!isDisposed()) {
+            try {
+                downstream.onError(e);
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            try {
+                downstream.onComplete();
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package operators;
+
+import components.Record;
+
+import java.util.Arrays;
+
+// CSV по RFC 4180: поля в кавычках могут содержать разделитель, перевод строки и удвоенную кавычку
+public final class CsvParser implements RecordParser {
+
+    private final char delimiter;
+    private final boolean header;
+    private volatile String[] names;
+    // Подсказка для размера массива значений; гонка при записи из рельсов безвредна
+    private int width = 8;
+
+    public CsvParser(char delimiter, boolean header) {
+        if (delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Unsupported CSV delimiter: " + (int) delimiter);
+        }
+        this.delimiter = delimiter;
+        this.header = header;
+    }
+
+    @Override
+    public boolean acceptHeader(char[] chars, int offset, int length) {
+        if (!header || names != null) {
+            return false;
+        }
+        String[] fields = new String[width];
+        int count = parseFields(chars, offset, length, fields);
+        names = Arrays.copyOf(fieldsOf(chars, offset, length, fields, count), count);
+        return true;
+    }
+
+    @Override
+    public boolean quoted() {
+        return true;
+    }
+
+    @Override
+    public Record parse(char[] chars, int offset, int length) {
+        String[] current = names;
+        String[] values = new String[current != null ? current.length : width];
+        int count = parseFields(chars, offset, length, values);
+        values = fieldsOf(chars, offset, length, values, count);
+        if (current == null && count > width) {
+            width = count;
+        }
+        return new Record(current, values, count);
+    }
+
+    // Массив мог оказаться мал: тогда разбор повторяется в массив нужного размера
+    private String[] fieldsOf(char[] chars, int offset, int length, String[] fields, int count) {
+        if (count <= fields.length) {
+            return fields;
+        }
+        String[] larger = new String[count];
+        parseFields(chars, offset, length, larger);
+        return larger;
+    }
+
+    // Заполняет fields, насколько хватает места, и возвращает полное число полей
+    private int parseFields(char[] chars, int offset, int length, String[] fields) {
+        int end = offset + length;
+        int count = 0;
+        int i = offset;
+        for (;;) {
+            String value;
+            if (i < end && chars[i] == '"') {
+                StringBuilder sb = null;
+                int start = ++i;
+                for (;;) {
+                    if (i >= end) {
+                        throw new IllegalArgumentException("Unterminated quoted CSV field: "
+                                + new String(chars, offset, length));
+                    }
+                    if (chars[i] == '"') {
+                        if (i + 1 < end && chars[i + 1] == '"') {
+                            // Удвоенная кавычка: строка собирается заново только в этом редком случае
+                            if (sb == null) {
+                                sb = new StringBuilder(i - start + 16);
+                            }
+                            sb.append(chars, start, i - start + 1);
+                            i += 2;
+                            start = i;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                if (sb == null) {
+                    value = new String(chars, start, i - start);
+                } else {
+                    value = sb.append(chars, start, i - start).toString();
+                }
+                i++;
+                if (i < end && chars[i] != delimiter) {
+                    throw new IllegalArgumentException("Unexpected character after quoted CSV field: "
+                            + new String(chars, offset, length));
+                }
+            } else {
+                int start = i;
+                while (i < end && chars[i] != delimiter) {
+                    i++;
+                }
+                value = new String(chars, start, i - start);
+            }
+            if (count < fields.length) {
+                fields[count] = value;
+            }
+            count++;
+            if (i >= end) {
+                return count;
+            }
+            i++;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package operators;
+
+import components.Disposable;
+import components.Observer;
+import components.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+public final class DebounceObserver<T> extends BasicObserver<T, T> {
+
+    private final long timeout;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+    private long index;
+    private T latest;
+    private Disposable timer;
+    private boolean done;
+
+    public DebounceObserver(Observer<T> downstream, long timeout, TimeUnit unit, Scheduler scheduler) {
+        super(downstream);
+        this.timeout = timeout;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    // Сигналы приходят из источника и от таймера; критические секции короткие и без ожидания
+    @Override
+    public synchronized void onNext(T item) {
+        if (done) {
+            return;
+        }
+        long idx = ++index;
+        latest = item;
+        if (timer != null) {
+            timer.dispose();
+        }
+        timer = scheduler.schedule(() -> emit(idx), timeout, unit);
+    }
+
+    @Override
+    public synchronized void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        done = true;
+        latest = null;
+        if (timer != null) {
+            timer.dispose();
+        }
+        downstream.onError(e);
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (timer != null) {
+            timer.dispose();
+        }
+        // Последний элемент выдается сразу, не дожидаясь таймера
+        T item = latest;
+        latest = null;
+        if (item != null) {
+            downstream.onNext(item);
+        }
+        downstream.onComplete();
+    }
+
+    @Override
+    public void dispose() {
+        disposeUpstream();
+        synchronized (this) {
+            done = true;
+            latest = null;
+            if (timer != null) {
+                timer.dispose();
+            }
+        }
+    }
+
+    private synchronized void emit(long idx) {
+        if (done || idx != index || latest == null) {
+            return;
+        }
+        T item = latest;
+        latest = null;
+        downstream.onNext(item);
+    }
+}
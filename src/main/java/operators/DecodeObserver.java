@@ -0,0 +1,83 @@
+package operators;
+
+import components.Observer;
+
+import java.nio.ByteBuffer;
+
+// Делит поток ByteBuffer на кадры-записи через RecordFramer. Первый кадр предлагается разборщику как заголовок;
+// остальные превращаются в элементы через FrameMapper: сразу в Record или в копию символов для разбора на рельсах
+public final class DecodeObserver<R> extends BasicObserver<ByteBuffer, R> implements RecordFramer.FrameSink {
+
+    public interface FrameMapper<R> {
+
+        // Массив chars переиспользуется фреймером и действителен только во время вызова
+        R apply(char[] chars, int length);
+    }
+
+    private final RecordFramer framer;
+    private final RecordParser parser;
+    private final FrameMapper<R> mapper;
+    private boolean first = true;
+    private boolean done;
+
+    public DecodeObserver(Observer<R> downstream, RecordParser parser, FrameMapper<R> mapper) {
+        super(downstream);
+        this.framer = new RecordFramer(parser.quoted());
+        this.parser = parser;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void onNext(ByteBuffer chunk) {
+        if (done) {
+            return;
+        }
+        try {
+            framer.feed(chunk, this);
+        } catch (RuntimeException e) {
+            disposeUpstream();
+            onError(e);
+        }
+    }
+
+    @Override
+    public boolean onFrame(char[] chars, int length) {
+        if (first) {
+            first = false;
+            if (parser.acceptHeader(chars, 0, length)) {
+                return true;
+            }
+        }
+        downstream.onNext(mapper.apply(chars, length));
+        return !done && !isDisposed();
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        done = true;
+        downstream.onError(e);
+    }
+
+    // Последняя запись без перевода строки в конце тоже выдается
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        try {
+            if (!framer.finish(this)) {
+                return;
+            }
+        } catch (RuntimeException e) {
+            onError(e);
+            return;
+        }
+        if (!done) {
+            done = true;
+            downstream.onComplete();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package operators;
+
+import components.Observer;
+import components.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+public final class DelayObserver<T> extends BasicObserver<T, T> {
+
+    private final long delay;
+    private final TimeUnit unit;
+    private final Scheduler.Worker worker;
+
+    // Таймер срабатывает в порядке сроков, а Worker выполняет задачи по очереди, поэтому порядок сохраняется
+    public DelayObserver(Observer<T> downstream, long delay, TimeUnit unit, Scheduler scheduler) {
+        super(downstream);
+        this.delay = delay;
+        this.unit = unit;
+        this.worker = scheduler.createWorker();
+    }
+
+    @Override
+    public void onNext(T item) {
+        worker.schedule(() -> downstream.onNext(item), delay, unit);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        worker.schedule(() -> {
+            downstream.onError(e);
+            worker.dispose();
+        }, delay, unit);
+    }
+
+    @Override
+    public void onComplete() {
+        worker.schedule(() -> {
+            downstream.onComplete();
+            worker.dispose();
+        }, delay, unit);
+    }
+
+    // Отмена Worker снимает с таймера все еще не выданные сигналы
+    @Override
+    public void dispose() {
+        disposeUpstream();
+        worker.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return worker.isDisposed();
+    }
+}
@@ -0,0 +1,82 @@
+package operators;
+
+import components.Disposable;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Ресурсы источника, которые освобождаются при отписке: подписка выше по цепочке, Worker, действия очистки.
+// Обычно ресурс один - подписка на оператор выше, и он хранится прямо в поле, без узла списка
+public abstract class DisposableEmitter implements Disposable {
+
+    private static final Resource DISPOSED = new Resource(null, null);
+    private static final VarHandle RESOURCES;
+
+    static {
+        try {
+            RESOURCES = MethodHandles.lookup().findVarHandle(DisposableEmitter.class, "resources", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // null, один ресурс (Disposable или Runnable), стек Resource или DISPOSED
+    private volatile Object resources;
+
+    public void onSubscribe(Disposable disposable) {
+        setDisposable(disposable);
+    }
+
+    public void setCancellable(Runnable cleanup) {
+        add(cleanup);
+    }
+
+    public void setDisposable(Disposable disposable) {
+        add(disposable);
+    }
+
+    @Override
+    public void dispose() {
+        Object current = RESOURCES.getAndSet(this, DISPOSED);
+        if (current == DISPOSED) {
+            return;
+        }
+        while (current instanceof Resource resource) {
+            release(resource.value);
+            current = resource.next;
+        }
+        if (current != null) {
+            release(current);
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return resources == DISPOSED;
+    }
+
+    private void add(Object value) {
+        for (;;) {
+            Object current = resources;
+            if (current == DISPOSED) {
+                release(value);
+                return;
+            }
+            Object next = current == null ? value : new Resource(value, current);
+            if (RESOURCES.compareAndSet(this, current, next)) {
+                return;
+            }
+        }
+    }
+
+    private static void release(Object value) {
+        if (value instanceof Disposable disposable) {
+            disposable.dispose();
+        } else {
+            ((Runnable) value).run();
+        }
+    }
+
+    private record Resource(Object value, Object next) {
+    }
+}
@@ -0,0 +1,81 @@
+package operators;
+
+import components.Disposable;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class DisposableHelper {
+
+    private static final Disposable DISPOSED = new Disposable() {
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return true;
+        }
+    };
+
+    private DisposableHelper() {
+    }
+
+    // Сохраняет подписку на источник; если отписка уже произошла, сразу отменяет новую подписку
+    public static boolean set(AtomicReference<Disposable> field, Disposable disposable) {
+        for (;;) {
+            Disposable current = field.get();
+            if (current == DISPOSED) {
+                disposable.dispose();
+                return false;
+            }
+            if (field.compareAndSet(current, disposable)) {
+                return true;
+            }
+        }
+    }
+
+    public static boolean dispose(AtomicReference<Disposable> field) {
+        Disposable current = field.getAndSet(DISPOSED);
+        if (current == DISPOSED) {
+            return false;
+        }
+        if (current != null) {
+            current.dispose();
+        }
+        return true;
+    }
+
+    public static boolean isDisposed(AtomicReference<Disposable> field) {
+        return field.get() == DISPOSED;
+    }
+
+    // Те же операции над volatile полем объекта owner, доступным через VarHandle
+    public static boolean set(VarHandle field, Object owner, Disposable disposable) {
+        for (;;) {
+            Disposable current = (Disposable) field.getVolatile(owner);
+            if (current == DISPOSED) {
+                disposable.dispose();
+                return false;
+            }
+            if (field.compareAndSet(owner, current, disposable)) {
+                return true;
+            }
+        }
+    }
+
+    public static boolean dispose(VarHandle field, Object owner) {
+        Disposable current = (Disposable) field.getAndSet(owner, DISPOSED);
+        if (current == DISPOSED) {
+            return false;
+        }
+        if (current != null) {
+            current.dispose();
+        }
+        return true;
+    }
+
+    public static boolean isDisposed(Disposable current) {
+        return current == DISPOSED;
+    }
+}
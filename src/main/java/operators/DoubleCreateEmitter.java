@@ -0,0 +1,42 @@
+package operators;
+
+import components.DoubleEmitter;
+import components.DoubleObserver;
+
+public final class DoubleCreateEmitter extends DisposableEmitter implements DoubleEmitter {
+
+    private final DoubleObserver downstream;
+
+    public DoubleCreateEmitter(DoubleObserver downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void onNext(double value) {
+        if (!isDisposed()) {
+            downstream.onNext(value);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (!isDisposed()) {
+            try {
+                downstream.onError(e);
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            try {
+                downstream.onComplete();
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
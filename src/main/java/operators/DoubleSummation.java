@@ -0,0 +1,25 @@
+package operators;
+
+// Суммирование Кэхэна: на сотнях миллионов значений ошибка округления не накапливается
+public final class DoubleSummation {
+
+    private double sum;
+    private double compensation;
+    private double simpleSum;
+
+    public void add(double value) {
+        simpleSum += value;
+        double y = value - compensation;
+        double t = sum + y;
+        compensation = (t - sum) - y;
+        sum = t;
+    }
+
+    public double value() {
+        // Компенсация дает NaN на бесконечностях: тогда верен обычный результат
+        if (Double.isNaN(sum) && Double.isInfinite(simpleSum)) {
+            return simpleSum;
+        }
+        return sum;
+    }
+}
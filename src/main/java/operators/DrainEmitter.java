@@ -0,0 +1,129 @@
+package operators;
+
+import components.MissingBackpressureException;
+import components.Subscriber;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public abstract class DrainEmitter<T> extends BaseEmitter<T> {
+
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile boolean done;
+    private Throwable error;
+
+    protected DrainEmitter(Subscriber<T> downstream) {
+        super(downstream);
+    }
+
+    protected abstract boolean offer(T item);
+
+    protected abstract T poll();
+
+    protected abstract boolean isEmpty();
+
+    protected abstract void clear();
+
+    @Override
+    public void onNext(T item) {
+        if (done || isCancelled()) {
+            return;
+        }
+        if (!offer(item)) {
+            clear();
+            onError(new MissingBackpressureException("Buffer is full, downstream can't keep up"));
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done || isCancelled()) {
+            return;
+        }
+        error = e;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done || isCancelled()) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    @Override
+    protected void onRequested() {
+        drain();
+    }
+
+    @Override
+    protected void onCancelled() {
+        if (wip.getAndIncrement() == 0) {
+            clear();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        for (;;) {
+            long r = requested.get();
+            long e = 0;
+
+            while (e != r) {
+                if (isCancelled()) {
+                    clear();
+                    return;
+                }
+                boolean d = done;
+                T item = poll();
+                boolean empty = item == null;
+                if (d && empty) {
+                    terminate();
+                    return;
+                }
+                if (empty) {
+                    break;
+                }
+                downstream.onNext(item);
+                e++;
+            }
+
+            if (e == r) {
+                if (isCancelled()) {
+                    clear();
+                    return;
+                }
+                if (done && isEmpty()) {
+                    terminate();
+                    return;
+                }
+            }
+
+            if (e != 0) {
+                BackpressureHelper.produced(requested, e);
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private void terminate() {
+        Throwable ex = error;
+        if (ex != null) {
+            super.onError(ex);
+        } else {
+            super.onComplete();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package operators;
+
+import components.Subscriber;
+
+public final class DropEmitter<T> extends BaseEmitter<T> {
+
+    public DropEmitter(Subscriber<T> downstream) {
+        super(downstream);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (isCancelled()) {
+            return;
+        }
+        // Без спроса элемент просто отбрасывается
+        if (requested.get() != 0) {
+            downstream.onNext(item);
+            BackpressureHelper.produced(requested, 1);
+        }
+    }
+}
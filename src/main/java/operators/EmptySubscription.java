@@ -0,0 +1,16 @@
+package operators;
+
+import components.Subscription;
+
+public enum EmptySubscription implements Subscription {
+
+    INSTANCE;
+
+    @Override
+    public void request(long n) {
+    }
+
+    @Override
+    public void cancel() {
+    }
+}
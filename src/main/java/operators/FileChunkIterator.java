@@ -0,0 +1,115 @@
+package operators;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Куски файла по chunkSize байт. Файл открывается при первом hasNext() и закрывается после последнего куска,
+// по close() или при ошибке. Размер файла фиксируется при открытии: дописанное позже не читается
+public final class FileChunkIterator implements Iterator<ByteBuffer>, Closeable {
+
+    // Одно отображение не может быть больше 2 ГБ, поэтому большие файлы отображаются областями
+    private static final long REGION_SIZE = 1L << 30;
+
+    private final Path path;
+    private final int chunkSize;
+    private final boolean mapped;
+    private volatile FileChannel channel;
+    private long size;
+    private long position;
+    private MappedByteBuffer region;
+
+    public FileChunkIterator(Path path, int chunkSize, boolean mapped) {
+        validate(chunkSize);
+        this.path = path;
+        this.chunkSize = chunkSize;
+        this.mapped = mapped;
+    }
+
+    public static void validate(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize > 0 required but it was " + chunkSize);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (channel == null) {
+            open();
+        }
+        if (position < size) {
+            return true;
+        }
+        close();
+        return false;
+    }
+
+    @Override
+    public ByteBuffer next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return mapped ? nextSlice() : nextRead();
+        } catch (IOException e) {
+            close();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Срез отображенной области: байты не копируются, буфер только для чтения
+    private ByteBuffer nextSlice() throws IOException {
+        if (region == null || !region.hasRemaining()) {
+            long length = Math.min(REGION_SIZE, size - position);
+            region = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        }
+        int length = Math.min(chunkSize, region.remaining());
+        ByteBuffer slice = region.slice(region.position(), length);
+        region.position(region.position() + length);
+        position += length;
+        return slice;
+    }
+
+    // Каждый кусок читается в свой буфер, поэтому его можно передать в другой поток и хранить после onNext
+    private ByteBuffer nextRead() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(chunkSize, size - position));
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                // Файл укоротили во время чтения: отдаем то, что успели прочитать
+                size = position + buffer.position();
+                break;
+            }
+        }
+        position += buffer.position();
+        return buffer.flip();
+    }
+
+    private void open() {
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+            size = channel.size();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Закрытие из другого потока прерывает блокирующее чтение с AsynchronousCloseException
+    @Override
+    public void close() {
+        FileChannel current = channel;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package operators;
+
+import components.Subscriber;
+import components.Subscription;
+
+import java.util.function.Predicate;
+
+public final class FilterSubscriber<T> implements Subscriber<T>, Subscription {
+
+    private final Subscriber<T> downstream;
+    private final Predicate<T> predicate;
+    private Subscription upstream;
+    private boolean done;
+
+    public FilterSubscriber(Subscriber<T> downstream, Predicate<T> predicate) {
+        this.downstream = downstream;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.upstream = subscription;
+        downstream.onSubscribe(this);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        boolean passed;
+        try {
+            passed = predicate.test(item);
+        } catch (Exception e) {
+            upstream.cancel();
+            onError(e);
+            return;
+        }
+        if (passed) {
+            downstream.onNext(item);
+        } else {
+            // Отфильтрованный элемент не покрывает спрос, запрашиваем замену
+            upstream.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        done = true;
+        downstream.onError(e);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        downstream.onComplete();
+    }
+
+    @Override
+    public void request(long n) {
+        upstream.request(n);
+    }
+
+    @Override
+    public void cancel() {
+        upstream.cancel();
+    }
+}
@@ -0,0 +1,410 @@
+package operators;
+
+import components.BackpressureStrategy;
+import components.ConcurrencyLimiter;
+import components.Disposable;
+import components.MissingBackpressureException;
+import components.Observable;
+import components.Observer;
+import queues.SimpleQueue;
+import queues.SpscLinkedArrayQueue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+public final class FlatMapObserver<T, R> extends BasicObserver<T, R> {
+
+    private final Function<T, Observable<R>> mapper;
+    private final int maxConcurrency;
+    private final int bufferSize;
+    // Добавляет поток источника, удаляет только цикл выдачи; блокировка корзины CHM берется лишь на эти две записи
+    // за время жизни внутреннего потока, а не на элемент, поэтому на горячем пути блокировок нет
+    private final Set<InnerObserver<R>> inners = ConcurrentHashMap.newKeySet();
+    // Элементы источника, ожидающие свободного места при ограничении maxConcurrency
+    private final SimpleQueue<T> pending;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    // Адаптивный предел вместо maxConcurrency; очередь ожидающих ограничена maxQueue
+    private final ConcurrencyLimiter limiter;
+    private final BackpressureStrategy overflow;
+    private final int maxQueue;
+    private final AtomicInteger queued;
+    private final Runnable wakeup;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+
+    public FlatMapObserver(Observer<R> downstream, Function<T, Observable<R>> mapper,
+                           int maxConcurrency, int bufferSize) {
+        super(downstream);
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency > 0 required but it was " + maxConcurrency);
+        }
+        this.mapper = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.bufferSize = bufferSize;
+        this.pending = maxConcurrency == Integer.MAX_VALUE ? null : new SpscLinkedArrayQueue<>(bufferSize);
+        this.limiter = null;
+        this.overflow = null;
+        this.maxQueue = 0;
+        this.queued = null;
+        this.wakeup = null;
+    }
+
+    // При переполнении очереди BUFFER завершает поток MissingBackpressureException, DROP отбрасывает элемент
+    public FlatMapObserver(Observer<R> downstream, Function<T, Observable<R>> mapper, ConcurrencyLimiter limiter,
+                           BackpressureStrategy overflow, int maxQueue, int bufferSize) {
+        super(downstream);
+        if (overflow == BackpressureStrategy.LATEST) {
+            throw new IllegalArgumentException("LATEST is not supported by adaptive flatMap");
+        }
+        if (maxQueue <= 0) {
+            throw new IllegalArgumentException("maxQueue > 0 required but it was " + maxQueue);
+        }
+        this.mapper = mapper;
+        this.maxConcurrency = Integer.MAX_VALUE;
+        this.bufferSize = bufferSize;
+        this.pending = new SpscLinkedArrayQueue<>(bufferSize);
+        this.limiter = limiter;
+        this.overflow = overflow;
+        this.maxQueue = maxQueue;
+        this.queued = new AtomicInteger();
+        this.wakeup = this::drain;
+        limiter.addWaiter(wakeup);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done || cancelled) {
+            return;
+        }
+        if (pending == null) {
+            subscribeInner(item, false);
+            return;
+        }
+        if (limiter != null) {
+            if (queued.get() >= maxQueue) {
+                if (overflow == BackpressureStrategy.DROP) {
+                    limiter.onRejected();
+                    return;
+                }
+                disposeUpstream();
+                onError(new MissingBackpressureException("flatMap queue is full (" + maxQueue + " items) at limit "
+                        + limiter.limit()));
+                return;
+            }
+            queued.incrementAndGet();
+            limiter.onQueued(1);
+        }
+        pending.offer(item);
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        error.compareAndSet(null, e);
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void dispose() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        removeWaiter();
+        cancelSources();
+        if (wip.getAndIncrement() == 0) {
+            clearQueues();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return cancelled;
+    }
+
+    private void subscribeInner(T item, boolean permit) {
+        Observable<R> source;
+        try {
+            source = mapper.apply(item);
+        } catch (Exception e) {
+            if (permit) {
+                limiter.release(-1, false);
+            }
+            error.compareAndSet(null, e);
+            drain();
+            return;
+        }
+        InnerObserver<R> inner = new InnerObserver<>(this, bufferSize, permit);
+        inners.add(inner);
+        active.incrementAndGet();
+        // dispose() мог пройти по inners до добавления: тогда отменяем внутренний источник сами
+        if (cancelled) {
+            inner.dispose();
+            return;
+        }
+        source.subscribe(inner);
+    }
+
+    void innerNext(InnerObserver<R> inner, R item) {
+        // Быстрый путь: без конкуренции элемент выдается сразу, минуя очередь
+        if (wip.get() == 0 && wip.compareAndSet(0, 1)) {
+            if (inner.isEmpty()) {
+                if (!cancelled) {
+                    downstream.onNext(item);
+                }
+            } else {
+                inner.offer(item);
+            }
+            if (wip.decrementAndGet() == 0) {
+                return;
+            }
+        } else {
+            inner.offer(item);
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+        }
+        drainLoop();
+    }
+
+    void innerError(InnerObserver<R> inner, Throwable e) {
+        inner.release(true);
+        error.compareAndSet(null, e);
+        drain();
+    }
+
+    void innerComplete(InnerObserver<R> inner) {
+        inner.release(false);
+        drain();
+    }
+
+    void drain() {
+        if (wip.getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        for (;;) {
+            if (checkTerminated()) {
+                return;
+            }
+
+            for (InnerObserver<R> inner : inners) {
+                for (;;) {
+                    if (checkTerminated()) {
+                        return;
+                    }
+                    R item = inner.poll();
+                    if (item == null) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                }
+                if (inner.done && inner.isEmpty()) {
+                    inners.remove(inner);
+                    active.decrementAndGet();
+                }
+            }
+
+            if (limiter != null) {
+                while (!cancelled && !pending.isEmpty() && limiter.tryAcquire()) {
+                    T item = pending.poll();
+                    queued.decrementAndGet();
+                    limiter.onQueued(-1);
+                    subscribeInner(item, true);
+                }
+            } else if (pending != null) {
+                while (active.get() < maxConcurrency && !cancelled) {
+                    T item = pending.poll();
+                    if (item == null) {
+                        break;
+                    }
+                    subscribeInner(item, false);
+                }
+            }
+
+            if (done && active.get() == 0 && (pending == null || pending.isEmpty())) {
+                cancelled = true;
+                removeWaiter();
+                Throwable ex = error.get();
+                if (ex != null) {
+                    downstream.onError(ex);
+                } else {
+                    downstream.onComplete();
+                }
+                return;
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private boolean checkTerminated() {
+        if (cancelled) {
+            clearQueues();
+            return true;
+        }
+        Throwable ex = error.get();
+        if (ex != null) {
+            cancelled = true;
+            removeWaiter();
+            cancelSources();
+            clearQueues();
+            downstream.onError(ex);
+            return true;
+        }
+        return false;
+    }
+
+    private void cancelSources() {
+        disposeUpstream();
+        for (InnerObserver<R> inner : inners) {
+            inner.dispose();
+        }
+    }
+
+    private void clearQueues() {
+        for (InnerObserver<R> inner : inners) {
+            inner.clear();
+        }
+        inners.clear();
+        if (pending != null) {
+            if (limiter != null) {
+                int dropped = queued.getAndSet(0);
+                limiter.onQueued(-dropped);
+            }
+            pending.clear();
+        }
+    }
+
+    private void removeWaiter() {
+        if (limiter != null) {
+            limiter.removeWaiter(wakeup);
+        }
+    }
+
+    static final class InnerObserver<R> implements Observer<R> {
+
+        private static final VarHandle UPSTREAM;
+
+        static {
+            try {
+                UPSTREAM = MethodHandles.lookup().findVarHandle(InnerObserver.class, "upstream", Disposable.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        final FlatMapObserver<?, R> parent;
+        final int bufferSize;
+        // Место в пределе ConcurrencyLimiter: освобождается один раз, с замером времени при завершении
+        private final AtomicBoolean permit;
+        private final long started;
+        // Очередь создается источником при первом элементе, который нельзя выдать сразу;
+        // короткие внутренние потоки без конкуренции обходятся без нее. Она не ограничена: у Observable нет
+        // спроса, и при фиксированной емкости синхронный внутренний поток под concatMap завершался бы ошибкой
+        private volatile SimpleQueue<R> queue;
+        private volatile Disposable upstream;
+        volatile boolean done;
+
+        InnerObserver(FlatMapObserver<?, R> parent, int bufferSize, boolean permit) {
+            this.parent = parent;
+            this.bufferSize = bufferSize;
+            this.permit = permit ? new AtomicBoolean(true) : null;
+            this.started = permit ? System.nanoTime() : 0;
+        }
+
+        @Override
+        public void onSubscribe(Disposable disposable) {
+            DisposableHelper.set(UPSTREAM, this, disposable);
+        }
+
+        @Override
+        public void onNext(R item) {
+            if (!done) {
+                parent.innerNext(this, item);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (!done) {
+                done = true;
+                parent.innerError(this, e);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                parent.innerComplete(this);
+            }
+        }
+
+        void dispose() {
+            DisposableHelper.dispose(UPSTREAM, this);
+            if (permit != null && permit.compareAndSet(true, false)) {
+                parent.limiter.release(-1, false);
+            }
+        }
+
+        void release(boolean failed) {
+            if (permit != null && permit.compareAndSet(true, false)) {
+                parent.limiter.release(System.nanoTime() - started, failed);
+            }
+        }
+
+        void offer(R item) {
+            SimpleQueue<R> q = queue;
+            if (q == null) {
+                q = new SpscLinkedArrayQueue<>(bufferSize);
+                queue = q;
+            }
+            q.offer(item);
+        }
+
+        R poll() {
+            SimpleQueue<R> q = queue;
+            return q == null ? null : q.poll();
+        }
+
+        boolean isEmpty() {
+            SimpleQueue<R> q = queue;
+            return q == null || q.isEmpty();
+        }
+
+        void clear() {
+            SimpleQueue<R> q = queue;
+            if (q != null) {
+                q.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package operators;
+
+import components.Flowable;
+import components.MissingBackpressureException;
+import components.Subscriber;
+import components.Subscription;
+import queues.SimpleQueue;
+import queues.SpscArrayQueue;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+public final class FlatMapSubscriber<T, R> implements Subscriber<T>, Subscription {
+
+    private final Subscriber<R> downstream;
+    private final Function<T, Flowable<R>> mapper;
+    private final int maxConcurrency;
+    private final int prefetch;
+    private final CopyOnWriteArrayList<InnerSubscriber<R>> inners = new CopyOnWriteArrayList<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private Subscription upstream;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+
+    public FlatMapSubscriber(Subscriber<R> downstream, Function<T, Flowable<R>> mapper,
+                             int maxConcurrency, int prefetch) {
+        this.downstream = downstream;
+        this.mapper = mapper;
+        this.maxConcurrency = maxConcurrency;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.upstream = subscription;
+        downstream.onSubscribe(this);
+        // Источник выдает не больше элементов, чем может быть активных внутренних потоков
+        subscription.request(maxConcurrency == Integer.MAX_VALUE ? Long.MAX_VALUE : maxConcurrency);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        Flowable<R> inner;
+        try {
+            inner = mapper.apply(item);
+        } catch (Exception e) {
+            upstream.cancel();
+            onError(e);
+            return;
+        }
+        InnerSubscriber<R> subscriber = new InnerSubscriber<>(this, prefetch);
+        inners.add(subscriber);
+        inner.subscribe(subscriber);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        error.compareAndSet(null, e);
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (BackpressureHelper.validate(n)) {
+            BackpressureHelper.add(requested, n);
+            drain();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        upstream.cancel();
+        cancelInners();
+    }
+
+    void innerError(Throwable e) {
+        error.compareAndSet(null, e);
+        drain();
+    }
+
+    void drain() {
+        if (wip.getAndIncrement() == 0) {
+            drainLoop();
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        for (;;) {
+            if (checkTerminated()) {
+                return;
+            }
+
+            long r = requested.get();
+            long e = 0;
+            int replenish = 0;
+
+            for (InnerSubscriber<R> inner : inners) {
+                while (e != r) {
+                    if (checkTerminated()) {
+                        return;
+                    }
+                    R item = inner.queue.poll();
+                    if (item == null) {
+                        break;
+                    }
+                    downstream.onNext(item);
+                    e++;
+                    inner.consumed();
+                }
+
+                if (inner.done && inner.queue.isEmpty()) {
+                    inners.remove(inner);
+                    replenish++;
+                }
+            }
+
+            if (e != 0) {
+                BackpressureHelper.produced(requested, e);
+            }
+            if (replenish != 0 && !done && !cancelled) {
+                upstream.request(replenish);
+            }
+
+            if (done && inners.isEmpty() && !cancelled) {
+                cancelled = true;
+                Throwable ex = error.get();
+                if (ex != null) {
+                    downstream.onError(ex);
+                } else {
+                    downstream.onComplete();
+                }
+                return;
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private boolean checkTerminated() {
+        if (cancelled) {
+            return true;
+        }
+        Throwable ex = error.get();
+        if (ex != null && (!done || !inners.isEmpty())) {
+            cancelled = true;
+            upstream.cancel();
+            cancelInners();
+            downstream.onError(ex);
+            return true;
+        }
+        return false;
+    }
+
+    private void cancelInners() {
+        for (InnerSubscriber<R> inner : inners) {
+            inner.cancel();
+        }
+        inners.clear();
+    }
+
+    static final class InnerSubscriber<R> implements Subscriber<R> {
+
+        final FlatMapSubscriber<?, R> parent;
+        final SimpleQueue<R> queue;
+        final int prefetch;
+        final int limit;
+        volatile boolean done;
+        private volatile Subscription upstream;
+        private long consumed;
+
+        InnerSubscriber(FlatMapSubscriber<?, R> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.upstream = subscription;
+            subscription.request(prefetch);
+        }
+
+        @Override
+        public void onNext(R item) {
+            if (!queue.offer(item)) {
+                cancel();
+                onError(new MissingBackpressureException("Inner queue is full, inner source ignored demand"));
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            done = true;
+            parent.innerError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            parent.drain();
+        }
+
+        void consumed() {
+            if (++consumed == limit) {
+                consumed = 0;
+                upstream.request(limit);
+            }
+        }
+
+        void cancel() {
+            Subscription s = upstream;
+            if (s != null) {
+                s.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package operators;
+
+import components.Disposable;
+import components.Observable;
+import components.ObservableEmitter;
+import components.Observer;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Несколько подряд идущих map/filter, собранные в одну стадию с одним Observer и одним try/catch
+public final class FusedObservable<R> extends Observable<R> {
+
+    private final Observable<Object> upstream;
+    private final StageChain chain;
+
+    private FusedObservable(Observable<Object> upstream, StageChain chain) {
+        this.upstream = upstream;
+        this.chain = chain;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T, R> Observable<R> map(Observable<T> upstream, Function<T, R> mapper) {
+        if (upstream instanceof FusedObservable<?> fused) {
+            return new FusedObservable<>(fused.upstream, fused.chain.map(mapper));
+        }
+        return new FusedObservable<>((Observable<Object>) upstream, StageChain.empty().map(mapper));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Observable<T> filter(Observable<T> upstream, Predicate<T> predicate) {
+        if (upstream instanceof FusedObservable<?> fused) {
+            return new FusedObservable<>(fused.upstream, fused.chain.filter(predicate));
+        }
+        return new FusedObservable<>((Observable<Object>) upstream, StageChain.empty().filter(predicate));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void subscribeActual(ObservableEmitter<R> observer) {
+        if (upstream instanceof IndexedSource<?> source) {
+            // Синхронный источник: забираем элементы циклом, минуя цепочку onNext
+            int size = source.size();
+            for (int i = 0; i < size && !observer.isDisposed(); i++) {
+                Object value;
+                try {
+                    value = chain.apply(source.get(i));
+                } catch (Exception e) {
+                    observer.onError(e);
+                    return;
+                }
+                if (value != StageChain.FILTERED) {
+                    observer.onNext((R) value);
+                }
+            }
+            observer.onComplete();
+            return;
+        }
+        upstream.subscribe(new FusedObserver<>(observer, this));
+    }
+
+    static final class FusedObserver<R> implements Observer<Object> {
+
+        private final Observer<R> downstream;
+        private final FusedObservable<R> parent;
+        private Disposable upstream;
+        private boolean done;
+
+        FusedObserver(Observer<R> downstream, FusedObservable<R> parent) {
+            this.downstream = downstream;
+            this.parent = parent;
+        }
+
+        @Override
+        public void onSubscribe(Disposable disposable) {
+            upstream = disposable;
+            downstream.onSubscribe(disposable);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(Object item) {
+            if (done) {
+                return;
+            }
+            Object value;
+            try {
+                value = parent.chain.apply(item);
+            } catch (Exception e) {
+                upstream.dispose();
+                onError(e);
+                return;
+            }
+            if (value != StageChain.FILTERED) {
+                downstream.onNext((R) value);
+            }
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done) {
+                return;
+            }
+            done = true;
+            downstream.onComplete();
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package operators;
+
+import components.Disposable;
+import components.GroupedObservable;
+import components.MissingBackpressureException;
+import components.ObservableEmitter;
+import components.Observer;
+import components.Scheduler;
+import queues.SimpleQueue;
+import queues.SpscArrayQueue;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+// Одна подписка на источник и таблица активных групп. Элементы группы ждут подписчика в ограниченной очереди;
+// с планировщиком каждая группа выдается на своем исполнителе, а простаивающие группы завершаются по таймауту
+public final class GroupByObserver<T, K> extends BasicObserver<T, GroupedObservable<K, T>> {
+
+    private final Function<T, K> keySelector;
+    private final int bufferSize;
+    private final long idleNanos;
+    private final Scheduler scheduler;
+    private final ConcurrentHashMap<K, Group<K, T>> groups = new ConcurrentHashMap<>();
+    // Подписка на источник держится, пока жив главный подписчик или хотя бы одна группа
+    private final AtomicInteger active = new AtomicInteger(1);
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private volatile Disposable sweeper;
+    private boolean done;
+
+    public GroupByObserver(Observer<GroupedObservable<K, T>> downstream, Function<T, K> keySelector, int bufferSize,
+                           long idleNanos, Scheduler scheduler) {
+        super(downstream);
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize > 0 required but it was " + bufferSize);
+        }
+        this.keySelector = keySelector;
+        this.bufferSize = bufferSize;
+        this.idleNanos = idleNanos;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void onSubscribe(Disposable disposable) {
+        super.onSubscribe(disposable);
+        if (idleNanos != Long.MAX_VALUE) {
+            sweeper = scheduler.schedulePeriodically(this::sweep, idleNanos, idleNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        K key;
+        try {
+            key = keySelector.apply(item);
+        } catch (Exception e) {
+            disposeUpstream();
+            onError(e);
+            return;
+        }
+        Group<K, T> group = groups.get(key);
+        if (group != null && group.offer(item)) {
+            return;
+        }
+        // Группы нет или она закрыта (отписка, простой, переполнение): элемент открывает новую группу
+        if (group != null) {
+            groups.remove(key, group);
+        }
+        if (cancelled.get()) {
+            return;
+        }
+        group = new Group<>(key, this, new SpscArrayQueue<>(bufferSize),
+                scheduler != null ? scheduler.createWorker() : null);
+        groups.put(key, group);
+        active.incrementAndGet();
+        group.offer(item);
+        downstream.onNext(group);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        done = true;
+        stopSweeper();
+        for (Group<K, T> group : groups.values()) {
+            group.terminate(e);
+        }
+        groups.clear();
+        downstream.onError(e);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        stopSweeper();
+        for (Group<K, T> group : groups.values()) {
+            group.terminate(null);
+        }
+        groups.clear();
+        downstream.onComplete();
+    }
+
+    // Отписка главного подписчика прекращает открытие новых групп; уже выданные группы продолжают получать элементы
+    @Override
+    public void dispose() {
+        if (cancelled.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return cancelled.get();
+    }
+
+    private void sweep() {
+        long now = System.nanoTime();
+        for (Group<K, T> group : groups.values()) {
+            if (now - group.lastAccess >= idleNanos) {
+                group.evict();
+            }
+        }
+    }
+
+    private void groupClosed(Group<K, T> group) {
+        groups.remove(group.getKey(), group);
+        release();
+    }
+
+    private void release() {
+        if (active.decrementAndGet() == 0) {
+            stopSweeper();
+            disposeUpstream();
+        }
+    }
+
+    private void stopSweeper() {
+        Disposable d = sweeper;
+        if (d != null) {
+            d.dispose();
+        }
+    }
+
+    static final class Group<K, T> extends GroupedObservable<K, T> implements Runnable {
+
+        private static final int OPEN = 0;
+        private static final int OFFERING = 1;
+        private static final int CLOSED = 2;
+
+        private final GroupByObserver<T, K> parent;
+        private final SimpleQueue<T> queue;
+        private final Scheduler.Worker worker;
+        // OFFERING защищает элемент, который источник кладет в очередь, от одновременного закрытия группы
+        private final AtomicInteger state = new AtomicInteger(OPEN);
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicReference<ObservableEmitter<T>> subscriber = new AtomicReference<>();
+        volatile long lastAccess;
+        private volatile boolean finished;
+        private volatile boolean cancelled;
+        private Throwable error;
+
+        Group(K key, GroupByObserver<T, K> parent, SimpleQueue<T> queue, Scheduler.Worker worker) {
+            super(key);
+            this.parent = parent;
+            this.queue = queue;
+            this.worker = worker;
+            this.lastAccess = System.nanoTime();
+        }
+
+        @Override
+        protected void subscribeActual(ObservableEmitter<T> observer) {
+            if (!subscriber.compareAndSet(null, observer)) {
+                observer.onError(new IllegalStateException("GroupedObservable allows only one subscriber"));
+                return;
+            }
+            observer.setCancellable(this::cancel);
+            schedule();
+        }
+
+        // Вызывает только поток источника; false - группа закрыта и элемент не принят
+        boolean offer(T item) {
+            if (!state.compareAndSet(OPEN, OFFERING)) {
+                return false;
+            }
+            if (parent.idleNanos != Long.MAX_VALUE) {
+                lastAccess = System.nanoTime();
+            }
+            if (!queue.offer(item)) {
+                state.set(CLOSED);
+                error = new MissingBackpressureException("Group " + getKey() + " queue is full (" + parent.bufferSize
+                        + " items): subscribe to groups promptly or use a larger bufferSize");
+                finished = true;
+                schedule();
+                parent.groupClosed(this);
+                return false;
+            }
+            state.set(OPEN);
+            schedule();
+            return true;
+        }
+
+        void terminate(Throwable e) {
+            error = e;
+            finished = true;
+            schedule();
+        }
+
+        // Простой: группа закрывается, только если источник сейчас не кладет в нее элемент
+        void evict() {
+            if (state.compareAndSet(OPEN, CLOSED)) {
+                finished = true;
+                schedule();
+                parent.groupClosed(this);
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+            for (;;) {
+                int s = state.get();
+                if (s == CLOSED) {
+                    break;
+                }
+                if (s == OPEN && state.compareAndSet(OPEN, CLOSED)) {
+                    parent.groupClosed(this);
+                    break;
+                }
+                Thread.onSpinWait();
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            if (worker != null) {
+                worker.execute(this);
+            } else {
+                run();
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            for (;;) {
+                ObservableEmitter<T> observer = subscriber.get();
+                if (cancelled) {
+                    queue.clear();
+                    disposeWorker();
+                    return;
+                }
+                if (observer != null) {
+                    for (;;) {
+                        if (cancelled) {
+                            queue.clear();
+                            disposeWorker();
+                            return;
+                        }
+                        boolean d = finished;
+                        T item = queue.poll();
+                        boolean empty = item == null;
+                        if (d && empty) {
+                            disposeWorker();
+                            Throwable ex = error;
+                            if (ex != null) {
+                                observer.onError(ex);
+                            } else {
+                                observer.onComplete();
+                            }
+                            return;
+                        }
+                        if (empty) {
+                            break;
+                        }
+                        observer.onNext(item);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void disposeWorker() {
+            if (worker != null) {
+                worker.dispose();
+            }
+        }
+    }
+}
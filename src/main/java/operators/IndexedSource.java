@@ -0,0 +1,9 @@
+package operators;
+
+// Синхронный источник, элементы которого слитый оператор забирает сам, без вызовов onNext
+public interface IndexedSource<T> {
+
+    int size();
+
+    T get(int index);
+}
@@ -0,0 +1,42 @@
+package operators;
+
+import components.IntEmitter;
+import components.IntObserver;
+
+public final class IntCreateEmitter extends DisposableEmitter implements IntEmitter {
+
+    private final IntObserver downstream;
+
+    public IntCreateEmitter(IntObserver downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void onNext(int value) {
+        if (!isDisposed()) {
+            downstream.onNext(value);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (!isDisposed()) {
+            try {
+                downstream.onError(e);
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            try {
+                downstream.onComplete();
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
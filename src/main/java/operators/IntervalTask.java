@@ -0,0 +1,19 @@
+package operators;
+
+import components.Observer;
+
+public final class IntervalTask implements Runnable {
+
+    private final Observer<Long> downstream;
+    private long count;
+
+    public IntervalTask(Observer<Long> downstream) {
+        this.downstream = downstream;
+    }
+
+    // Тики выполняются на одном Worker, поэтому никогда не пересекаются
+    @Override
+    public void run() {
+        downstream.onNext(count++);
+    }
+}
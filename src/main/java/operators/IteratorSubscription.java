@@ -0,0 +1,112 @@
+package operators;
+
+import components.Subscriber;
+import components.Subscription;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class IteratorSubscription<T> implements Subscription {
+
+    private final Subscriber<T> downstream;
+    private final Iterator<T> iterator;
+    private final AtomicLong requested = new AtomicLong();
+    private volatile boolean cancelled;
+
+    public IteratorSubscription(Subscriber<T> downstream, Iterator<T> iterator) {
+        this.downstream = downstream;
+        this.iterator = iterator;
+    }
+
+    @Override
+    public void request(long n) {
+        if (!BackpressureHelper.validate(n)) {
+            cancel();
+            downstream.onError(new IllegalArgumentException("n > 0 required but it was " + n));
+            return;
+        }
+        // Эмиссию ведет только тот поток, который поднял спрос с нуля
+        if (BackpressureHelper.add(requested, n) != 0) {
+            return;
+        }
+
+        long e = 0;
+        for (;;) {
+            long r = requested.get();
+            while (e != r) {
+                if (cancelled) {
+                    return;
+                }
+                T item;
+                boolean hasNext;
+                try {
+                    item = iterator.next();
+                    downstream.onNext(item);
+                    hasNext = iterator.hasNext();
+                } catch (Exception ex) {
+                    // cancel() из другого потока закрывает итератор посреди чтения: отменившему подписчику
+                    // ошибка закрытия не нужна
+                    if (!cancelled) {
+                        cancelled = true;
+                        close(iterator);
+                        downstream.onError(ex);
+                    }
+                    return;
+                }
+                if (!hasNext) {
+                    if (!cancelled) {
+                        cancelled = true;
+                        close(iterator);
+                        downstream.onComplete();
+                    }
+                    return;
+                }
+                e++;
+            }
+
+            if (r == Long.MAX_VALUE) {
+                continue;
+            }
+            r = requested.addAndGet(-e);
+            if (r == 0) {
+                return;
+            }
+            e = 0;
+        }
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        close(iterator);
+    }
+
+    public static <T> void subscribe(Subscriber<T> subscriber, Iterator<T> iterator) {
+        boolean hasNext;
+        try {
+            hasNext = iterator.hasNext();
+        } catch (Exception e) {
+            close(iterator);
+            subscriber.onSubscribe(EmptySubscription.INSTANCE);
+            subscriber.onError(e);
+            return;
+        }
+        if (!hasNext) {
+            close(iterator);
+            subscriber.onSubscribe(EmptySubscription.INSTANCE);
+            subscriber.onComplete();
+            return;
+        }
+        subscriber.onSubscribe(new IteratorSubscription<>(subscriber, iterator));
+    }
+
+    // Итератор поверх файла или другого ресурса освобождается при завершении и отмене
+    private static void close(Iterator<?> iterator) {
+        if (iterator instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception ignored) {
+            }
+        }
+    }
+}
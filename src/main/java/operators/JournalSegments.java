@@ -0,0 +1,58 @@
+package operators;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+// Формат журнала: каталог сегментов "<номер первой записи>.log" фиксированного размера. Запись - заголовок
+// [длина + 1][CRC32C данных] и данные; нулевой заголовок или неверная сумма означают конец записанной части
+final class JournalSegments {
+
+    static final int HEADER = 8;
+    private static final String SUFFIX = ".log";
+
+    private JournalSegments() {
+    }
+
+    static Path file(Path dir, long base) {
+        return dir.resolve(String.format("%020d", base) + SUFFIX);
+    }
+
+    // Номера первых записей существующих сегментов по возрастанию
+    static long[] list(Path dir) {
+        if (!Files.isDirectory(dir)) {
+            return new long[0];
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SUFFIX) && name.length() == 20 + SUFFIX.length())
+                    .mapToLong(name -> Long.parseLong(name.substring(0, 20)))
+                    .sorted()
+                    .toArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Длина данных записи по смещению position или -1, если записи там нет
+    static int length(ByteBuffer segment, int position) {
+        if (position + HEADER > segment.limit()) {
+            return -1;
+        }
+        int length = segment.getInt(position) - 1;
+        if (length < 0 || length > segment.limit() - position - HEADER) {
+            return -1;
+        }
+        return checksum(segment, position + HEADER, length) == segment.getInt(position + 4) ? length : -1;
+    }
+
+    static int checksum(ByteBuffer segment, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(segment.slice(offset, length));
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,245 @@
+package operators;
+
+import components.Observer;
+import components.Serializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+
+// Дописывает каждый элемент в журнал и только затем передает его дальше. Сегменты отображены в память;
+// force() вызывается раз в syncEvery записей, при смене сегмента и при завершении. При открытии журнал
+// продолжается с конца последнего сегмента, при смене сегмента лишние старые удаляются
+public final class JournalWriteObserver<T> extends BasicObserver<T, T> {
+
+    private final Path dir;
+    private final Serializer<T> serializer;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final int syncEvery;
+    private final ArrayDeque<Long> bases = new ArrayDeque<>();
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private int position;
+    private int synced;
+    private int unsynced;
+    private long nextIndex;
+    private boolean done;
+
+    public JournalWriteObserver(Observer<T> downstream, Path dir, Serializer<T> serializer, int segmentSize,
+                                int maxSegments, int syncEvery) {
+        super(downstream);
+        if (segmentSize <= JournalSegments.HEADER) {
+            throw new IllegalArgumentException("segmentSize > " + JournalSegments.HEADER + " required but it was "
+                    + segmentSize);
+        }
+        if (maxSegments <= 0) {
+            throw new IllegalArgumentException("maxSegments > 0 required but it was " + maxSegments);
+        }
+        if (syncEvery <= 0) {
+            throw new IllegalArgumentException("syncEvery > 0 required but it was " + syncEvery);
+        }
+        this.dir = dir;
+        this.serializer = serializer;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.syncEvery = syncEvery;
+    }
+
+    // Открывает последний сегмент и находит конец записанного; ошибка ввода-вывода уходит подписчику
+    public synchronized void open() {
+        try {
+            Files.createDirectories(dir);
+            for (long base : JournalSegments.list(dir)) {
+                bases.addLast(base);
+            }
+            if (bases.isEmpty()) {
+                openSegment(0);
+                return;
+            }
+            long base = bases.peekLast();
+            mapSegment(base);
+            long index = base;
+            int length;
+            while ((length = JournalSegments.length(segment, position)) >= 0) {
+                position += JournalSegments.HEADER + length;
+                index++;
+            }
+            clearTail();
+            synced = position;
+            nextIndex = index;
+        } catch (IOException e) {
+            closeQuietly();
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Обнуляет сегмент после последней целой записи: старые записи за поврежденной иначе снова стали бы видны
+    // при повторе и сбили бы нумерацию. На диск сбрасывается только если в хвосте что-то было
+    private void clearTail() {
+        byte[] zeros = new byte[4096];
+        boolean dirty = false;
+        for (int offset = position; offset < segment.capacity(); offset += zeros.length) {
+            int length = Math.min(zeros.length, segment.capacity() - offset);
+            if (!isZero(offset, length)) {
+                segment.put(offset, zeros, 0, length);
+                dirty = true;
+            }
+        }
+        if (dirty) {
+            segment.force(position, segment.capacity() - position);
+        }
+    }
+
+    private boolean isZero(int offset, int length) {
+        int i = offset;
+        for (int end = offset + length - 7; i < end; i += 8) {
+            if (segment.getLong(i) != 0) {
+                return false;
+            }
+        }
+        for (; i < offset + length; i++) {
+            if (segment.get(i) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        try {
+            append(serializer.serialize(item));
+        } catch (Exception e) {
+            disposeUpstream();
+            onError(e);
+            return;
+        }
+        downstream.onNext(item);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        done = true;
+        close();
+        downstream.onError(e);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        try {
+            close();
+        } catch (UncheckedIOException e) {
+            downstream.onError(e);
+            return;
+        }
+        downstream.onComplete();
+    }
+
+    @Override
+    public void dispose() {
+        disposeUpstream();
+        try {
+            close();
+        } catch (UncheckedIOException ignored) {
+            // Подписчик уже отписался, сообщить об ошибке некому
+        }
+    }
+
+    private synchronized void append(byte[] bytes) throws IOException {
+        if (segment == null) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        int size = JournalSegments.HEADER + bytes.length;
+        if (size > segmentSize) {
+            throw new IllegalArgumentException("Record of " + bytes.length + " bytes does not fit into a segment of "
+                    + segmentSize + " bytes");
+        }
+        if (position + size > segment.capacity()) {
+            roll();
+        }
+        segment.put(position + JournalSegments.HEADER, bytes);
+        segment.putInt(position + 4, JournalSegments.checksum(segment, position + JournalSegments.HEADER,
+                bytes.length));
+        // Длина пишется последней: до нее запись для читателя не существует
+        segment.putInt(position, bytes.length + 1);
+        position += size;
+        nextIndex++;
+        if (++unsynced >= syncEvery) {
+            sync();
+        }
+    }
+
+    private void sync() {
+        if (position > synced) {
+            segment.force(synced, position - synced);
+            synced = position;
+        }
+        unsynced = 0;
+    }
+
+    private void roll() throws IOException {
+        sync();
+        channel.close();
+        openSegment(nextIndex);
+        while (bases.size() > maxSegments) {
+            Files.deleteIfExists(JournalSegments.file(dir, bases.pollFirst()));
+        }
+    }
+
+    private void openSegment(long base) throws IOException {
+        bases.addLast(base);
+        mapSegment(base);
+        nextIndex = base;
+    }
+
+    private void mapSegment(long base) throws IOException {
+        channel = FileChannel.open(JournalSegments.file(dir, base), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(channel.size(), segmentSize));
+        position = 0;
+        synced = 0;
+    }
+
+    private synchronized void close() {
+        if (segment == null) {
+            return;
+        }
+        try {
+            sync();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            segment = null;
+            channel = null;
+        }
+    }
+
+    private void closeQuietly() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException ignored) {
+            // Исходная ошибка открытия важнее
+        }
+        segment = null;
+        channel = null;
+    }
+}
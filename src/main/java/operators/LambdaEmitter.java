@@ -0,0 +1,48 @@
+package operators;
+
+import components.ObservableEmitter;
+
+import java.util.function.Consumer;
+
+// Подписка лямбдами: обработчики вызываются прямо из приемника, без промежуточного Observer
+public final class LambdaEmitter<T> extends DisposableEmitter implements ObservableEmitter<T> {
+
+    private final Consumer<T> onNext;
+    private final Consumer<Throwable> onError;
+    private final Runnable onComplete;
+
+    public LambdaEmitter(Consumer<T> onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        this.onNext = onNext;
+        this.onError = onError;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (!isDisposed()) {
+            onNext.accept(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (!isDisposed()) {
+            try {
+                onError.accept(e);
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            try {
+                onComplete.run();
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package operators;
+
+import components.Disposable;
+import components.Subscriber;
+import components.Subscription;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public final class LambdaSubscriber<T> implements Subscriber<T>, Disposable {
+
+    private final Consumer<T> onNext;
+    private final Consumer<Throwable> onError;
+    private final Runnable onComplete;
+    private final AtomicReference<Subscription> upstream = new AtomicReference<>();
+
+    public LambdaSubscriber(Consumer<T> onNext, Consumer<Throwable> onError, Runnable onComplete) {
+        this.onNext = onNext;
+        this.onError = onError;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        if (upstream.compareAndSet(null, subscription)) {
+            subscription.request(Long.MAX_VALUE);
+        } else {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (!isDisposed()) {
+            onNext.accept(item);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (!isDisposed()) {
+            upstream.lazySet(CancelledSubscription.INSTANCE);
+            onError.accept(e);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            upstream.lazySet(CancelledSubscription.INSTANCE);
+            onComplete.run();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        Subscription current = upstream.getAndSet(CancelledSubscription.INSTANCE);
+        if (current != null && current != CancelledSubscription.INSTANCE) {
+            current.cancel();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return upstream.get() == CancelledSubscription.INSTANCE;
+    }
+
+    private enum CancelledSubscription implements Subscription {
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
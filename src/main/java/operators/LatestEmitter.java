@@ -0,0 +1,36 @@
+package operators;
+
+import components.Subscriber;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class LatestEmitter<T> extends DrainEmitter<T> {
+
+    private final AtomicReference<T> latest = new AtomicReference<>();
+
+    public LatestEmitter(Subscriber<T> downstream) {
+        super(downstream);
+    }
+
+    @Override
+    protected boolean offer(T item) {
+        // Более новый элемент вытесняет еще не выданный старый
+        latest.set(item);
+        return true;
+    }
+
+    @Override
+    protected T poll() {
+        return latest.getAndSet(null);
+    }
+
+    @Override
+    protected boolean isEmpty() {
+        return latest.get() == null;
+    }
+
+    @Override
+    protected void clear() {
+        latest.set(null);
+    }
+}
@@ -0,0 +1,101 @@
+package operators;
+
+import components.Observer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Делит поток ByteBuffer на строки UTF-8 по '\n' (завершающий '\r' отбрасывается). Строка собирается в буфере
+// только если пересекает границу кусков; иначе декодируется прямо из куска
+public final class LinesObserver extends BasicObserver<ByteBuffer, String> {
+
+    private byte[] carry = new byte[256];
+    private int carrySize;
+    private byte[] scratch;
+    private boolean done;
+
+    public LinesObserver(Observer<String> downstream) {
+        super(downstream);
+    }
+
+    @Override
+    public void onNext(ByteBuffer chunk) {
+        if (done) {
+            return;
+        }
+        int start = chunk.position();
+        int limit = chunk.limit();
+        for (int i = start; i < limit; i++) {
+            if (chunk.get(i) == '\n') {
+                emitLine(chunk, start, i);
+                start = i + 1;
+                if (isDisposed()) {
+                    return;
+                }
+            }
+        }
+        if (start < limit) {
+            append(chunk, start, limit);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        done = true;
+        downstream.onError(e);
+    }
+
+    // Последняя строка без перевода строки в конце тоже выдается
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (carrySize > 0) {
+            downstream.onNext(decode(carry, 0, carrySize));
+            carrySize = 0;
+        }
+        downstream.onComplete();
+    }
+
+    private void emitLine(ByteBuffer chunk, int from, int to) {
+        String line;
+        if (carrySize > 0) {
+            append(chunk, from, to);
+            line = decode(carry, 0, carrySize);
+            carrySize = 0;
+        } else if (chunk.hasArray()) {
+            line = decode(chunk.array(), chunk.arrayOffset() + from, to - from);
+        } else {
+            // Прямой или отображенный буфер: байты строки копируются в переиспользуемый массив
+            int length = to - from;
+            if (scratch == null || scratch.length < length) {
+                scratch = new byte[Math.max(length, 256)];
+            }
+            chunk.get(from, scratch, 0, length);
+            line = decode(scratch, 0, length);
+        }
+        downstream.onNext(line);
+    }
+
+    private void append(ByteBuffer chunk, int from, int to) {
+        int length = to - from;
+        if (carrySize + length > carry.length) {
+            carry = Arrays.copyOf(carry, Math.max(carry.length * 2, carrySize + length));
+        }
+        chunk.get(from, carry, carrySize, length);
+        carrySize += length;
+    }
+
+    private static String decode(byte[] bytes, int offset, int length) {
+        if (length > 0 && bytes[offset + length - 1] == '\r') {
+            length--;
+        }
+        return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,42 @@
+package operators;
+
+import components.LongEmitter;
+import components.LongObserver;
+
+public final class LongCreateEmitter extends DisposableEmitter implements LongEmitter {
+
+    private final LongObserver downstream;
+
+    public LongCreateEmitter(LongObserver downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void onNext(long value) {
+        if (!isDisposed()) {
+            downstream.onNext(value);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (!isDisposed()) {
+            try {
+                downstream.onError(e);
+            } finally {
+                dispose();
+            }
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!isDisposed()) {
+            try {
+                downstream.onComplete();
+            } finally {
+                dispose();
+            }
+        }
+    }
+}
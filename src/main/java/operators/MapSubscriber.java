@@ -0,0 +1,69 @@
+package operators;
+
+import components.Subscriber;
+import components.Subscription;
+
+import java.util.function.Function;
+
+public final class MapSubscriber<T, R> implements Subscriber<T>, Subscription {
+
+    private final Subscriber<R> downstream;
+    private final Function<T, R> mapper;
+    private Subscription upstream;
+    private boolean done;
+
+    public MapSubscriber(Subscriber<R> downstream, Function<T, R> mapper) {
+        this.downstream = downstream;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.upstream = subscription;
+        downstream.onSubscribe(this);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        R result;
+        try {
+            result = mapper.apply(item);
+        } catch (Exception e) {
+            upstream.cancel();
+            onError(e);
+            return;
+        }
+        downstream.onNext(result);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        done = true;
+        downstream.onError(e);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        downstream.onComplete();
+    }
+
+    @Override
+    public void request(long n) {
+        upstream.request(n);
+    }
+
+    @Override
+    public void cancel() {
+        upstream.cancel();
+    }
+}
@@ -0,0 +1,81 @@
+package operators;
+
+import components.Disposable;
+import components.Observable;
+import components.ObservableEmitter;
+import components.Observer;
+import plugins.Instrumentation;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Стадия, которую Plugins.onAssembly ставит после оператора, когда включены замеры
+public final class MeteredObservable<T> extends Observable<T> {
+
+    private final Observable<T> source;
+    private final String operator;
+    private final Instrumentation metrics;
+
+    public MeteredObservable(Observable<T> source, String operator, Instrumentation metrics) {
+        this.source = source;
+        this.operator = operator;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> observer) {
+        source.subscribe(new MeteredObserver<>(observer, operator, metrics));
+    }
+
+    static final class MeteredObserver<T> extends BasicObserver<T, T> {
+
+        private final String operator;
+        private final Instrumentation metrics;
+        private final AtomicBoolean ended = new AtomicBoolean();
+        private long subscribedAt;
+
+        MeteredObserver(Observer<T> downstream, String operator, Instrumentation metrics) {
+            super(downstream);
+            this.operator = operator;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public void onSubscribe(Disposable disposable) {
+            setUpstream(disposable);
+            subscribedAt = System.nanoTime();
+            metrics.onSubscribe(operator);
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(T item) {
+            long start = System.nanoTime();
+            downstream.onNext(item);
+            metrics.onNext(operator, System.nanoTime() - start);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            end();
+            downstream.onError(e);
+        }
+
+        @Override
+        public void onComplete() {
+            end();
+            downstream.onComplete();
+        }
+
+        @Override
+        public void dispose() {
+            disposeUpstream();
+            end();
+        }
+
+        private void end() {
+            if (ended.compareAndSet(false, true)) {
+                metrics.onSubscriptionEnd(operator, System.nanoTime() - subscribedAt);
+            }
+        }
+    }
+}
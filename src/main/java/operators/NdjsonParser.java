@@ -0,0 +1,216 @@
+package operators;
+
+import components.Record;
+
+import java.util.Arrays;
+
+// Одна строка NDJSON - один объект. Значения верхнего уровня выдаются текстом: строки без кавычек и экранирования,
+// числа и true/false как есть, null как null, вложенные объекты и массивы исходным текстом
+public final class NdjsonParser implements RecordParser {
+
+    @Override
+    public Record parse(char[] chars, int offset, int length) {
+        Cursor cursor = new Cursor(chars, offset, offset + length);
+        String[] names = new String[8];
+        String[] values = new String[8];
+        int count = 0;
+
+        cursor.skipWhitespace();
+        cursor.expect('{');
+        cursor.skipWhitespace();
+        if (cursor.peek() == '}') {
+            cursor.next();
+        } else {
+            for (;;) {
+                cursor.skipWhitespace();
+                cursor.expect('"');
+                String name = cursor.string();
+                cursor.skipWhitespace();
+                cursor.expect(':');
+                cursor.skipWhitespace();
+                String value = cursor.value();
+                if (count == names.length) {
+                    names = Arrays.copyOf(names, count * 2);
+                    values = Arrays.copyOf(values, count * 2);
+                }
+                names[count] = name;
+                values[count] = value;
+                count++;
+                cursor.skipWhitespace();
+                char c = cursor.next();
+                if (c == '}') {
+                    break;
+                }
+                if (c != ',') {
+                    throw cursor.error("',' or '}' expected");
+                }
+            }
+        }
+        cursor.skipWhitespace();
+        if (cursor.position < cursor.end) {
+            throw cursor.error("end of record expected");
+        }
+        return new Record(names, values, count);
+    }
+
+    private static final class Cursor {
+
+        final char[] chars;
+        final int start;
+        final int end;
+        int position;
+
+        Cursor(char[] chars, int start, int end) {
+            this.chars = chars;
+            this.start = start;
+            this.end = end;
+            this.position = start;
+        }
+
+        char peek() {
+            if (position >= end) {
+                throw error("unexpected end of record");
+            }
+            return chars[position];
+        }
+
+        char next() {
+            char c = peek();
+            position++;
+            return c;
+        }
+
+        void expect(char expected) {
+            if (next() != expected) {
+                position--;
+                throw error("'" + expected + "' expected");
+            }
+        }
+
+        void skipWhitespace() {
+            while (position < end) {
+                char c = chars[position];
+                if (c != ' ' && c != '\t' && c != '\r' && c != '\n') {
+                    return;
+                }
+                position++;
+            }
+        }
+
+        String value() {
+            char c = peek();
+            if (c == '"') {
+                position++;
+                return string();
+            }
+            if (c == '{' || c == '[') {
+                int from = position;
+                skipNested();
+                return new String(chars, from, position - from);
+            }
+            int from = position;
+            while (position < end) {
+                c = chars[position];
+                if (c == ',' || c == '}' || c == ' ' || c == '\t' || c == '\r' || c == '\n') {
+                    break;
+                }
+                position++;
+            }
+            if (position == from) {
+                throw error("value expected");
+            }
+            if (position - from == 4 && chars[from] == 'n' && chars[from + 1] == 'u'
+                    && chars[from + 2] == 'l' && chars[from + 3] == 'l') {
+                return null;
+            }
+            return new String(chars, from, position - from);
+        }
+
+        // Открывающая кавычка уже прочитана. Строка без экранирования создается прямо из буфера кадра
+        String string() {
+            int from = position;
+            while (position < end) {
+                char c = chars[position];
+                if (c == '"') {
+                    String s = new String(chars, from, position - from);
+                    position++;
+                    return s;
+                }
+                if (c == '\\') {
+                    return escapedString(from);
+                }
+                position++;
+            }
+            throw error("unterminated string");
+        }
+
+        private String escapedString(int from) {
+            StringBuilder sb = new StringBuilder(position - from + 16).append(chars, from, position - from);
+            while (position < end) {
+                char c = chars[position++];
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                char e = next();
+                switch (e) {
+                    case '"', '\\', '/' -> sb.append(e);
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > end) {
+                            throw error("bad unicode escape");
+                        }
+                        int code = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int digit = Character.digit(chars[position++], 16);
+                            if (digit < 0) {
+                                throw error("bad unicode escape");
+                            }
+                            code = code * 16 + digit;
+                        }
+                        sb.append((char) code);
+                    }
+                    default -> throw error("bad escape '\\" + e + "'");
+                }
+            }
+            throw error("unterminated string");
+        }
+
+        // Пропускает вложенный объект или массив, учитывая скобки внутри строк
+        private void skipNested() {
+            int depth = 0;
+            boolean inString = false;
+            while (position < end) {
+                char c = chars[position++];
+                if (inString) {
+                    if (c == '\\') {
+                        position++;
+                    } else if (c == '"') {
+                        inString = false;
+                    }
+                } else if (c == '"') {
+                    inString = true;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    if (--depth == 0) {
+                        return;
+                    }
+                }
+            }
+            throw error("unterminated nested value");
+        }
+
+        IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("Malformed JSON record at " + (position - start) + ": " + message
+                    + ": " + new String(chars, start, end - start));
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package operators;
+
+import components.Observable;
+import components.ObservableEmitter;
+import subjects.Subject;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Подписывается на источник при первой подписке и запоминает все сигналы; следующие подписчики получают их
+// повтором, в том числе после завершения. Элементы хранятся в связанных сегментах, буфер не ограничен
+public final class ObservableCache<T> extends Subject<T> {
+
+    private static final int SEGMENT_SIZE = 16;
+
+    private final Observable<T> source;
+    private final AtomicBoolean connected = new AtomicBoolean();
+    private final Segment head = new Segment();
+    // Хвост и смещение в нем пишет только поток источника
+    private Segment tail = head;
+    private int tailOffset;
+    private volatile long size;
+    private volatile boolean done;
+    private Throwable error;
+
+    public ObservableCache(Observable<T> source) {
+        this.source = source;
+    }
+
+    public boolean isConnected() {
+        return connected.get();
+    }
+
+    // Источник завершился ошибкой: кэш с такой ошибкой не стоит отдавать новым подписчикам
+    public boolean hasFailed() {
+        return done && error != null;
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> observer) {
+        Inner<T> inner = new Inner<>(observer, head);
+        if (add(inner)) {
+            observer.setCancellable(() -> remove(inner));
+        }
+        if (!connected.get() && connected.compareAndSet(false, true)) {
+            source.subscribe(this);
+        }
+        replay(inner);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        if (tailOffset == SEGMENT_SIZE) {
+            Segment next = new Segment();
+            tail.next = next;
+            tail = next;
+            tailOffset = 0;
+        }
+        tail.values[tailOffset++] = item;
+        // Запись size публикует и элемент, и ссылку на новый сегмент
+        size = size + 1;
+        for (Object subscriber : subscribers()) {
+            replay((Inner<T>) subscriber);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        error = e;
+        finish();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        finish();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void finish() {
+        done = true;
+        for (Object subscriber : terminate()) {
+            replay((Inner<T>) subscriber);
+        }
+    }
+
+    // Выдачу подписчику ведет один поток: либо подписавшийся, пока догоняет, либо поток источника
+    @SuppressWarnings("unchecked")
+    private void replay(Inner<T> inner) {
+        if (inner.wip.getAndIncrement() != 0) {
+            return;
+        }
+        ObservableEmitter<T> downstream = inner.downstream;
+        int missed = 1;
+        for (;;) {
+            long index = inner.index;
+            Segment segment = inner.segment;
+            int offset = inner.offset;
+            for (;;) {
+                if (downstream.isDisposed()) {
+                    return;
+                }
+                boolean d = done;
+                if (index == size) {
+                    if (d) {
+                        Throwable ex = error;
+                        if (ex != null) {
+                            downstream.onError(ex);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    break;
+                }
+                if (offset == SEGMENT_SIZE) {
+                    segment = segment.next;
+                    offset = 0;
+                }
+                downstream.onNext((T) segment.values[offset++]);
+                index++;
+            }
+            inner.index = index;
+            inner.segment = segment;
+            inner.offset = offset;
+            missed = inner.wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private static final class Segment {
+
+        final Object[] values = new Object[SEGMENT_SIZE];
+        Segment next;
+    }
+
+    private static final class Inner<T> {
+
+        final ObservableEmitter<T> downstream;
+        final AtomicInteger wip = new AtomicInteger();
+        Segment segment;
+        int offset;
+        long index;
+
+        Inner(ObservableEmitter<T> downstream, Segment segment) {
+            this.downstream = downstream;
+            this.segment = segment;
+        }
+    }
+}
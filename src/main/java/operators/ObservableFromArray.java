@@ -0,0 +1,34 @@
+package operators;
+
+import components.Observable;
+import components.ObservableEmitter;
+
+public final class ObservableFromArray<T> extends Observable<T> implements IndexedSource<T> {
+
+    private final T[] items;
+
+    public ObservableFromArray(T[] items) {
+        this.items = items;
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> observer) {
+        for (T item : items) {
+            if (observer.isDisposed()) {
+                return;
+            }
+            observer.onNext(item);
+        }
+        observer.onComplete();
+    }
+
+    @Override
+    public int size() {
+        return items.length;
+    }
+
+    @Override
+    public T get(int index) {
+        return items[index];
+    }
+}
@@ -0,0 +1,32 @@
+package operators;
+
+import components.Observable;
+import components.ObservableEmitter;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+public final class ObservableFromFile extends Observable<ByteBuffer> {
+
+    private final Path path;
+    private final int chunkSize;
+    private final boolean mapped;
+
+    public ObservableFromFile(Path path, int chunkSize, boolean mapped) {
+        FileChunkIterator.validate(chunkSize);
+        this.path = path;
+        this.chunkSize = chunkSize;
+        this.mapped = mapped;
+    }
+
+    // Отписка закрывает канал, поэтому прерывает и чтение, заблокированное в другом потоке
+    @Override
+    protected void subscribeActual(ObservableEmitter<ByteBuffer> observer) {
+        FileChunkIterator chunks = new FileChunkIterator(path, chunkSize, mapped);
+        observer.setCancellable(chunks::close);
+        while (!observer.isDisposed() && chunks.hasNext()) {
+            observer.onNext(chunks.next());
+        }
+        observer.onComplete();
+    }
+}
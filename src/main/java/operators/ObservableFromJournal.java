@@ -0,0 +1,74 @@
+package operators;
+
+import components.Observable;
+import components.ObservableEmitter;
+import components.Serializer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Повтор журнала с записи offset до конца записанного на момент чтения сегмента. Если offset уже удален
+// политикой хранения, повтор начинается с самой старой сохраненной записи
+public final class ObservableFromJournal<T> extends Observable<T> {
+
+    private final Path dir;
+    private final long offset;
+    private final Serializer<T> serializer;
+
+    public ObservableFromJournal(Path dir, long offset, Serializer<T> serializer) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset >= 0 required but it was " + offset);
+        }
+        this.dir = dir;
+        this.offset = offset;
+        this.serializer = serializer;
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> observer) {
+        long[] bases = JournalSegments.list(dir);
+        for (int i = 0; i < bases.length; i++) {
+            // Сегмент целиком раньше offset: его записи не нужны
+            if (i + 1 < bases.length && bases[i + 1] <= offset) {
+                continue;
+            }
+            MappedByteBuffer segment = map(JournalSegments.file(dir, bases[i]));
+            if (segment == null) {
+                continue;
+            }
+            long index = bases[i];
+            int position = 0;
+            for (;;) {
+                if (observer.isDisposed()) {
+                    return;
+                }
+                int length = JournalSegments.length(segment, position);
+                if (length < 0) {
+                    break;
+                }
+                if (index >= offset) {
+                    observer.onNext(serializer.deserialize(segment.slice(position + JournalSegments.HEADER, length)));
+                }
+                position += JournalSegments.HEADER + length;
+                index++;
+            }
+        }
+        observer.onComplete();
+    }
+
+    // Отображение остается действительным после закрытия канала; null - сегмент удален после чтения каталога
+    private static MappedByteBuffer map(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
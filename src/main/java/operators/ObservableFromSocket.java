@@ -0,0 +1,129 @@
+package operators;
+
+import components.Observable;
+import components.ObservableEmitter;
+import schedulers.NioScheduler;
+import schedulers.SelectorLoop;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+public final class ObservableFromSocket extends Observable<ByteBuffer> {
+
+    private final SocketChannel channel;
+    private final int bufferSize;
+    private final NioScheduler scheduler;
+
+    public ObservableFromSocket(SocketChannel channel, int bufferSize, NioScheduler scheduler) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize > 0 required but it was " + bufferSize);
+        }
+        this.channel = channel;
+        this.bufferSize = bufferSize;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<ByteBuffer> observer) {
+        SocketReader reader = new SocketReader(observer, channel, bufferSize, scheduler.nextLoop());
+        observer.setCancellable(reader::cancel);
+        reader.loop.execute(reader::register);
+    }
+
+    // Все обращения к каналу и ключу идут из потока цикла; элементы выдаются там же
+    static final class SocketReader implements Consumer<SelectionKey> {
+
+        private final ObservableEmitter<ByteBuffer> downstream;
+        private final SocketChannel channel;
+        private final int bufferSize;
+        final SelectorLoop loop;
+        private ByteBuffer buffer;
+        private SelectionKey key;
+        // Конец потока прочитан: канал остается владельцу и записи writeTo в этот же сокет
+        private volatile boolean finished;
+
+        SocketReader(ObservableEmitter<ByteBuffer> downstream, SocketChannel channel, int bufferSize,
+                     SelectorLoop loop) {
+            this.downstream = downstream;
+            this.channel = channel;
+            this.bufferSize = bufferSize;
+            this.loop = loop;
+        }
+
+        void register() {
+            if (downstream.isDisposed()) {
+                return;
+            }
+            try {
+                key = loop.register(channel, SelectionKey.OP_READ, this);
+            } catch (IOException e) {
+                close();
+                downstream.onError(e);
+            }
+        }
+
+        // Канал читается, пока в нем есть данные; каждый прочитанный буфер передается подписчику целиком
+        @Override
+        public void accept(SelectionKey key) {
+            try {
+                while (!downstream.isDisposed()) {
+                    if (buffer == null) {
+                        buffer = ByteBuffer.allocate(bufferSize);
+                    }
+                    int read = channel.read(buffer);
+                    if (read < 0) {
+                        finish();
+                        downstream.onComplete();
+                        return;
+                    }
+                    if (read == 0) {
+                        return;
+                    }
+                    ByteBuffer chunk = buffer.flip();
+                    buffer = null;
+                    downstream.onNext(chunk);
+                }
+            } catch (IOException e) {
+                close();
+                downstream.onError(e);
+            }
+        }
+
+        void cancel() {
+            if (finished) {
+                return;
+            }
+            if (loop.inLoop()) {
+                close();
+                return;
+            }
+            try {
+                loop.execute(this::close);
+            } catch (RejectedExecutionException e) {
+                close();
+            }
+        }
+
+        // Снимается только чтение: запись в этот же канал может еще идти
+        private void finish() {
+            finished = true;
+            loop.unregister(key, this);
+            try {
+                channel.shutdownInput();
+            } catch (IOException ignored) {
+            }
+        }
+
+        // Закрытие канала снимает и его регистрацию в Selector
+        private void close() {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
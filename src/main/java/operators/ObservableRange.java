@@ -0,0 +1,37 @@
+package operators;
+
+import components.Observable;
+import components.ObservableEmitter;
+
+public final class ObservableRange extends Observable<Integer> implements IndexedSource<Integer> {
+
+    private final int start;
+    private final int count;
+
+    public ObservableRange(int start, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count >= 0 required but it was " + count);
+        }
+        this.start = start;
+        this.count = count;
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<Integer> observer) {
+        int end = start + count;
+        for (int i = start; i != end && !observer.isDisposed(); i++) {
+            observer.onNext(i);
+        }
+        observer.onComplete();
+    }
+
+    @Override
+    public int size() {
+        return count;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return start + index;
+    }
+}
@@ -0,0 +1,140 @@
+package operators;
+
+import components.Observer;
+import components.Scheduler;
+import plugins.Instrumentation;
+import plugins.Plugins;
+import queues.SimpleQueue;
+import queues.SpscLinkedArrayQueue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ObserveOnObserver<T> extends BasicObserver<T, T> implements Runnable {
+
+    private final Scheduler.Worker worker;
+    private final int batchSize;
+    private final SimpleQueue<T> queue;
+    private final AtomicInteger wip = new AtomicInteger();
+    // Глубина очереди считается, только если замеры были включены при подписке
+    private final Instrumentation metrics = Plugins.instrumentation();
+    private final AtomicInteger depth = metrics == null ? null : new AtomicInteger();
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private Throwable error;
+
+    public ObserveOnObserver(Observer<T> downstream, Scheduler scheduler, int bufferSize) {
+        super(downstream);
+        this.worker = scheduler.createWorker();
+        this.batchSize = bufferSize;
+        this.queue = new SpscLinkedArrayQueue<>(bufferSize);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        queue.offer(item);
+        if (metrics != null) {
+            metrics.onQueueDepth("observeOn", depth.incrementAndGet());
+        }
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        error = e;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void dispose() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        disposeUpstream();
+        worker.dispose();
+        // Очередь очищает тот, кто владеет циклом выдачи; если цикл не запущен - владельцем становимся мы
+        if (wip.getAndIncrement() == 0) {
+            queue.clear();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return cancelled;
+    }
+
+    private void schedule() {
+        // Задача планируется только на первый элемент пачки, остальные заберет уже запущенный цикл
+        if (wip.getAndIncrement() == 0) {
+            worker.execute(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        int emitted = 0;
+        for (;;) {
+            for (;;) {
+                if (cancelled) {
+                    queue.clear();
+                    return;
+                }
+                boolean d = done;
+                T item = queue.poll();
+                boolean empty = item == null;
+
+                if (d && empty) {
+                    Throwable ex = error;
+                    worker.dispose();
+                    if (ex != null) {
+                        downstream.onError(ex);
+                    } else {
+                        downstream.onComplete();
+                    }
+                    return;
+                }
+                if (empty) {
+                    break;
+                }
+                if (metrics != null) {
+                    depth.decrementAndGet();
+                }
+
+                try {
+                    downstream.onNext(item);
+                } catch (Throwable ex) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+                }
+
+                // После пачки элементов уступаем поток другим задачам планировщика
+                if (++emitted == batchSize) {
+                    worker.execute(this);
+                    return;
+                }
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package operators;
+
+import components.MissingBackpressureException;
+import components.Scheduler;
+import components.Subscriber;
+import components.Subscription;
+import queues.SimpleQueue;
+import queues.SpscArrayQueue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class ObserveOnSubscriber<T> implements Subscriber<T>, Subscription, Runnable {
+
+    private final Subscriber<T> downstream;
+    private final Scheduler.Worker worker;
+    private final int prefetch;
+    private final int limit;
+    private final SimpleQueue<T> queue;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private Subscription upstream;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private Throwable error;
+    private long consumed;
+
+    public ObserveOnSubscriber(Subscriber<T> downstream, Scheduler scheduler, int prefetch) {
+        this.downstream = downstream;
+        this.worker = scheduler.createWorker();
+        this.prefetch = prefetch;
+        this.limit = prefetch - (prefetch >> 2);
+        this.queue = new SpscArrayQueue<>(prefetch);
+    }
+
+    @Override
+    public void onSubscribe(Subscription subscription) {
+        this.upstream = subscription;
+        downstream.onSubscribe(this);
+        subscription.request(prefetch);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        if (!queue.offer(item)) {
+            upstream.cancel();
+            onError(new MissingBackpressureException("Queue is full, upstream ignored demand"));
+            return;
+        }
+        schedule();
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        error = e;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void request(long n) {
+        if (BackpressureHelper.validate(n)) {
+            BackpressureHelper.add(requested, n);
+            schedule();
+        }
+    }
+
+    @Override
+    public void cancel() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        upstream.cancel();
+        worker.dispose();
+        if (wip.getAndIncrement() == 0) {
+            queue.clear();
+        }
+    }
+
+    private void schedule() {
+        if (wip.getAndIncrement() == 0) {
+            worker.execute(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        for (;;) {
+            long r = requested.get();
+            long e = 0;
+
+            while (e != r) {
+                boolean d = done;
+                T item = queue.poll();
+                boolean empty = item == null;
+                if (checkTerminated(d, empty)) {
+                    return;
+                }
+                if (empty) {
+                    break;
+                }
+                downstream.onNext(item);
+                e++;
+
+                // Пополняем запас у источника порциями, а не по одному элементу
+                if (++consumed == limit) {
+                    consumed = 0;
+                    upstream.request(limit);
+                }
+            }
+
+            if (e == r && checkTerminated(done, queue.isEmpty())) {
+                return;
+            }
+
+            if (e != 0) {
+                BackpressureHelper.produced(requested, e);
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private boolean checkTerminated(boolean d, boolean empty) {
+        if (cancelled) {
+            queue.clear();
+            return true;
+        }
+        if (d && empty) {
+            cancelled = true;
+            worker.dispose();
+            Throwable ex = error;
+            if (ex != null) {
+                downstream.onError(ex);
+            } else {
+                downstream.onComplete();
+            }
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,352 @@
+package operators;
+
+import components.Disposable;
+import components.Observer;
+import components.Scheduler;
+import queues.SimpleQueue;
+import queues.SpscLinkedArrayQueue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+
+// Раздает элементы источника по кругу на n рельсов; каждая рельса применяет стадии на своем Worker,
+// а результаты собираются обратно в одном цикле выдачи
+public final class ParallelRunner<T> implements Observer<Object>, Disposable {
+
+    public enum Join {
+        // Элементы выдаются по мере готовности
+        SEQUENTIAL,
+        // Элементы выдаются в порядке источника
+        ORDERED,
+        // Каждая рельса сортирует свои элементы, при завершении рельсы сливаются
+        SORTED,
+        // Каждая рельса сворачивает свои элементы, при завершении результаты объединяются
+        REDUCE
+    }
+
+    private final Observer<T> downstream;
+    private final StageChain chain;
+    private final Join join;
+    private final Comparator<Object> comparator;
+    private final Supplier<Object> seed;
+    private final BiFunction<Object, Object, Object> accumulator;
+    private final BinaryOperator<Object> combiner;
+    private final Rail[] rails;
+    private final AtomicInteger activeRails;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+    private volatile boolean cancelled;
+    // Рельса для следующего элемента; меняется только в потоке источника
+    private int next;
+    // Рельса, от которой ожидается следующий элемент при Join.ORDERED
+    private int cursor;
+
+    @SuppressWarnings("unchecked")
+    public ParallelRunner(Observer<T> downstream, int parallelism, Scheduler scheduler, StageChain chain, Join join,
+                          Comparator<?> comparator, Supplier<?> seed, BiFunction<?, ?, ?> accumulator,
+                          BinaryOperator<?> combiner, int bufferSize) {
+        this.downstream = downstream;
+        this.chain = chain;
+        this.join = join;
+        this.comparator = (Comparator<Object>) comparator;
+        this.seed = (Supplier<Object>) seed;
+        this.accumulator = (BiFunction<Object, Object, Object>) accumulator;
+        this.combiner = (BinaryOperator<Object>) combiner;
+        this.rails = (Rail[]) new ParallelRunner<?>.Rail[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            rails[i] = new Rail(scheduler == null ? null : scheduler.createWorker(), bufferSize);
+        }
+        this.activeRails = new AtomicInteger(parallelism);
+    }
+
+    @Override
+    public void onSubscribe(Disposable disposable) {
+        DisposableHelper.set(upstream, disposable);
+        downstream.onSubscribe(this);
+    }
+
+    @Override
+    public void onNext(Object item) {
+        if (cancelled) {
+            return;
+        }
+        Rail rail = rails[next];
+        if (++next == rails.length) {
+            next = 0;
+        }
+        rail.input.offer(item);
+        rail.schedule();
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        error.compareAndSet(null, e);
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        for (Rail rail : rails) {
+            rail.inputDone = true;
+            rail.schedule();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+        cancelSources();
+        if (wip.getAndIncrement() == 0) {
+            clearOutputs();
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return cancelled;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            if (cancelled) {
+                clearOutputs();
+                return;
+            }
+            Throwable ex = error.get();
+            if (ex != null) {
+                cancelled = true;
+                cancelSources();
+                clearOutputs();
+                downstream.onError(ex);
+                return;
+            }
+
+            // Рельса уменьшает счетчик после последней записи в выходную очередь, поэтому читаем его до выдачи
+            boolean done = activeRails.get() == 0;
+            if (join == Join.SEQUENTIAL) {
+                for (Rail rail : rails) {
+                    Object item;
+                    while (!cancelled && (item = rail.output.poll()) != null) {
+                        downstream.onNext((T) item);
+                    }
+                }
+            } else if (join == Join.ORDERED) {
+                Object item;
+                while (!cancelled && (item = rails[cursor].output.poll()) != null) {
+                    if (item != StageChain.FILTERED) {
+                        downstream.onNext((T) item);
+                    }
+                    if (++cursor == rails.length) {
+                        cursor = 0;
+                    }
+                }
+            }
+
+            if (done && !cancelled) {
+                cancelled = true;
+                for (Rail rail : rails) {
+                    if (rail.worker != null) {
+                        rail.worker.dispose();
+                    }
+                }
+                if (join == Join.SORTED) {
+                    emitSorted();
+                } else if (join == Join.REDUCE) {
+                    emitReduced();
+                }
+                downstream.onComplete();
+                return;
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    // Слияние отсортированных рельсов: рельсов немного, поэтому минимум ищется простым перебором
+    @SuppressWarnings("unchecked")
+    private void emitSorted() {
+        List<Object>[] lists = (List<Object>[]) new List<?>[rails.length];
+        int[] positions = new int[rails.length];
+        for (int i = 0; i < rails.length; i++) {
+            lists[i] = (List<Object>) rails[i].output.poll();
+        }
+        for (;;) {
+            int min = -1;
+            for (int i = 0; i < lists.length; i++) {
+                if (positions[i] < lists[i].size() && (min < 0
+                        || comparator.compare(lists[i].get(positions[i]), lists[min].get(positions[min])) < 0)) {
+                    min = i;
+                }
+            }
+            if (min < 0) {
+                return;
+            }
+            downstream.onNext((T) lists[min].get(positions[min]++));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void emitReduced() {
+        Object result = null;
+        boolean hasValue = false;
+        for (Rail rail : rails) {
+            Object value = rail.output.poll();
+            if (value == null) {
+                continue;
+            }
+            result = hasValue ? combiner.apply(result, value) : value;
+            hasValue = true;
+        }
+        if (hasValue) {
+            downstream.onNext((T) result);
+        }
+    }
+
+    private void cancelSources() {
+        DisposableHelper.dispose(upstream);
+        for (Rail rail : rails) {
+            if (rail.worker != null) {
+                rail.worker.dispose();
+            }
+        }
+    }
+
+    private void clearOutputs() {
+        for (Rail rail : rails) {
+            rail.output.clear();
+        }
+    }
+
+    final class Rail implements Runnable {
+
+        final SimpleQueue<Object> input;
+        final SimpleQueue<Object> output;
+        final Scheduler.Worker worker;
+        final AtomicInteger wip = new AtomicInteger();
+        volatile boolean inputDone;
+        private List<Object> sorted;
+        private Object accumulated;
+        private boolean hasValue;
+
+        Rail(Scheduler.Worker worker, int bufferSize) {
+            this.worker = worker;
+            this.input = new SpscLinkedArrayQueue<>(bufferSize);
+            this.output = new SpscLinkedArrayQueue<>(bufferSize);
+        }
+
+        void schedule() {
+            if (wip.getAndIncrement() == 0) {
+                if (worker != null) {
+                    worker.execute(this);
+                } else {
+                    run();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            for (;;) {
+                for (;;) {
+                    if (cancelled) {
+                        input.clear();
+                        return;
+                    }
+                    boolean d = inputDone;
+                    Object item = input.poll();
+                    if (item == null) {
+                        if (d) {
+                            try {
+                                finish();
+                            } catch (Throwable ex) {
+                                ParallelRunner.this.onError(ex);
+                                return;
+                            }
+                            activeRails.decrementAndGet();
+                            drain();
+                            return;
+                        }
+                        break;
+                    }
+                    try {
+                        process(item);
+                    } catch (Throwable ex) {
+                        input.clear();
+                        ParallelRunner.this.onError(ex);
+                        return;
+                    }
+                }
+                drain();
+
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        private void process(Object item) throws Exception {
+            Object value = chain.apply(item);
+            switch (join) {
+                case SEQUENTIAL -> {
+                    if (value != StageChain.FILTERED) {
+                        output.offer(value);
+                    }
+                }
+                // Отброшенный элемент тоже занимает место, иначе сборка не узнает, что его позиция пройдена
+                case ORDERED -> output.offer(value);
+                case SORTED -> {
+                    if (value != StageChain.FILTERED) {
+                        if (sorted == null) {
+                            sorted = new ArrayList<>();
+                        }
+                        sorted.add(value);
+                    }
+                }
+                case REDUCE -> {
+                    if (value != StageChain.FILTERED) {
+                        if (!hasValue) {
+                            accumulated = seed != null ? accumulator.apply(seed.get(), value) : value;
+                            hasValue = true;
+                        } else {
+                            accumulated = accumulator.apply(accumulated, value);
+                        }
+                    }
+                }
+            }
+        }
+
+        private void finish() {
+            if (join == Join.SORTED) {
+                List<Object> list = sorted != null ? sorted : new ArrayList<>();
+                list.sort(comparator);
+                output.offer(list);
+            } else if (join == Join.REDUCE) {
+                if (hasValue) {
+                    output.offer(accumulated);
+                } else if (seed != null) {
+                    output.offer(seed.get());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package operators;
+
+import components.Disposable;
+import components.Observer;
+import queues.SimpleQueue;
+import queues.SpscLinkedArrayQueue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+// Подписчик одного источника zip и combineLatest: элементы кладет в свою SPSC-очередь и будит общий цикл выдачи.
+// Пишет в очередь только поток источника, читает только владелец цикла выдачи
+final class QueuedInnerObserver<T> implements Observer<T> {
+
+    private static final VarHandle UPSTREAM;
+
+    static {
+        try {
+            UPSTREAM = MethodHandles.lookup().findVarHandle(QueuedInnerObserver.class, "upstream", Disposable.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    final SimpleQueue<T> queue;
+    private final Runnable drain;
+    private volatile Disposable upstream;
+    volatile boolean done;
+    Throwable error;
+
+    QueuedInnerObserver(int bufferSize, Runnable drain) {
+        this.queue = new SpscLinkedArrayQueue<>(bufferSize);
+        this.drain = drain;
+    }
+
+    @Override
+    public void onSubscribe(Disposable disposable) {
+        DisposableHelper.set(UPSTREAM, this, disposable);
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (!done) {
+            queue.offer(item);
+            drain.run();
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (!done) {
+            error = e;
+            done = true;
+            drain.run();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!done) {
+            done = true;
+            drain.run();
+        }
+    }
+
+    void dispose() {
+        DisposableHelper.dispose(UPSTREAM, this);
+    }
+}
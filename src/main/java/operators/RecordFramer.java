@@ -0,0 +1,107 @@
+package operators;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Декодирует куски UTF-8 в символы и делит их на записи по переводу строки. Многобайтный символ и запись могут
+// пересекать границу кусков. Буферы символов переиспользуются: кадр действителен только во время onFrame
+public final class RecordFramer {
+
+    public interface FrameSink {
+
+        // false останавливает разбор текущего куска, например после отписки
+        boolean onFrame(char[] chars, int length);
+    }
+
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final CharBuffer chars = CharBuffer.allocate(8192);
+    // Начало многобайтного символа, оборванное концом куска
+    private final ByteBuffer pending = ByteBuffer.allocate(8);
+    private final boolean quoted;
+    private char[] record = new char[256];
+    private int length;
+    private boolean inQuotes;
+
+    public RecordFramer(boolean quoted) {
+        this.quoted = quoted;
+    }
+
+    public boolean feed(ByteBuffer chunk, FrameSink sink) {
+        ByteBuffer in = chunk.duplicate();
+        while (pending.position() > 0 && in.hasRemaining()) {
+            pending.put(in.get()).flip();
+            decoder.decode(pending, chars, false);
+            pending.compact();
+        }
+        for (;;) {
+            boolean overflow = decoder.decode(in, chars, false).isOverflow();
+            if (!scan(sink)) {
+                return false;
+            }
+            if (!overflow) {
+                break;
+            }
+        }
+        pending.put(in);
+        return true;
+    }
+
+    // Конец потока: последняя запись может не заканчиваться переводом строки
+    public boolean finish(FrameSink sink) {
+        pending.flip();
+        decoder.decode(pending, chars, true);
+        decoder.flush(chars);
+        pending.clear();
+        if (!scan(sink)) {
+            return false;
+        }
+        if (length > 0) {
+            int frame = length;
+            length = 0;
+            return sink.onFrame(record, trim(frame));
+        }
+        return true;
+    }
+
+    private boolean scan(FrameSink sink) {
+        chars.flip();
+        char[] array = chars.array();
+        int end = chars.limit();
+        try {
+            for (int i = chars.position(); i < end; i++) {
+                char c = array[i];
+                if (c == '\n' && !inQuotes) {
+                    int frame = trim(length);
+                    length = 0;
+                    // Пустые строки пропускаются
+                    if (frame > 0 && !sink.onFrame(record, frame)) {
+                        chars.position(i + 1);
+                        return false;
+                    }
+                    continue;
+                }
+                if (quoted && c == '"') {
+                    inQuotes = !inQuotes;
+                }
+                if (length == record.length) {
+                    record = Arrays.copyOf(record, length * 2);
+                }
+                record[length++] = c;
+            }
+            chars.position(end);
+            return true;
+        } finally {
+            chars.compact();
+        }
+    }
+
+    private int trim(int frame) {
+        return frame > 0 && record[frame - 1] == '\r' ? frame - 1 : frame;
+    }
+}
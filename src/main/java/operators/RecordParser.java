@@ -0,0 +1,20 @@
+package operators;
+
+import components.Record;
+
+// Разбор одной записи из символов кадра; реализации не хранят изменяемого состояния между записями,
+// поэтому один разборщик можно вызывать из нескольких рельсов parallel
+public interface RecordParser {
+
+    Record parse(char[] chars, int offset, int length);
+
+    // Первый кадр может оказаться заголовком: тогда он поглощается и не выдается как запись
+    default boolean acceptHeader(char[] chars, int offset, int length) {
+        return false;
+    }
+
+    // Учитываются ли кавычки при поиске конца записи (перевод строки внутри кавычек CSV не завершает запись)
+    default boolean quoted() {
+        return false;
+    }
+}
@@ -0,0 +1,87 @@
+package operators;
+
+import components.Disposable;
+import components.Observer;
+import components.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+public final class SampleObserver<T> extends BasicObserver<T, T> implements Runnable {
+
+    private T latest;
+    private boolean done;
+    private Disposable timer;
+
+    public SampleObserver(Observer<T> downstream) {
+        super(downstream);
+    }
+
+    public void start(long period, TimeUnit unit, Scheduler scheduler) {
+        downstream.onSubscribe(this);
+        Disposable task = scheduler.schedulePeriodically(this, period, period, unit);
+        synchronized (this) {
+            if (done) {
+                task.dispose();
+            } else {
+                timer = task;
+            }
+        }
+    }
+
+    @Override
+    public void onSubscribe(Disposable disposable) {
+        setUpstream(disposable);
+    }
+
+    @Override
+    public synchronized void onNext(T item) {
+        if (!done) {
+            latest = item;
+        }
+    }
+
+    @Override
+    public synchronized void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        terminate();
+        downstream.onError(e);
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        if (done) {
+            return;
+        }
+        terminate();
+        downstream.onComplete();
+    }
+
+    // Срабатывание периода: выдается последний элемент, полученный с прошлого срабатывания
+    @Override
+    public synchronized void run() {
+        if (done || latest == null) {
+            return;
+        }
+        T item = latest;
+        latest = null;
+        downstream.onNext(item);
+    }
+
+    @Override
+    public void dispose() {
+        disposeUpstream();
+        synchronized (this) {
+            terminate();
+        }
+    }
+
+    private void terminate() {
+        done = true;
+        latest = null;
+        if (timer != null) {
+            timer.dispose();
+        }
+    }
+}
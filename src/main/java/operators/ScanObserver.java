@@ -0,0 +1,80 @@
+package operators;
+
+import components.Observer;
+
+import java.util.function.BiFunction;
+
+// Накопитель scan и reduce: scan выдает каждое промежуточное значение, reduce - только итог при завершении.
+// Без начального значения накопление начинается с первого элемента
+public final class ScanObserver<T, R> extends BasicObserver<T, R> {
+
+    private final BiFunction<R, T, R> accumulator;
+    private final boolean emitEach;
+    private R state;
+    private boolean hasState;
+    private boolean done;
+
+    public ScanObserver(Observer<R> downstream, BiFunction<R, T, R> accumulator, boolean emitEach) {
+        super(downstream);
+        this.accumulator = accumulator;
+        this.emitEach = emitEach;
+    }
+
+    public ScanObserver(Observer<R> downstream, R seed, BiFunction<R, T, R> accumulator, boolean emitEach) {
+        this(downstream, accumulator, emitEach);
+        this.state = seed;
+        this.hasState = true;
+    }
+
+    // scan с начальным значением выдает его первым, до элементов источника
+    public void emitSeed() {
+        downstream.onNext(state);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        if (!hasState) {
+            // Вариант без начального значения возможен только при R = T
+            state = (R) item;
+            hasState = true;
+        } else {
+            try {
+                state = accumulator.apply(state, item);
+            } catch (Exception e) {
+                disposeUpstream();
+                onError(e);
+                return;
+            }
+        }
+        if (emitEach) {
+            downstream.onNext(state);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        done = true;
+        state = null;
+        downstream.onError(e);
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        if (!emitEach && hasState) {
+            downstream.onNext(state);
+        }
+        state = null;
+        downstream.onComplete();
+    }
+}
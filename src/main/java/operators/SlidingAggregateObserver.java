@@ -0,0 +1,137 @@
+package operators;
+
+import components.Disposable;
+import components.Observer;
+import components.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+// После каждого элемента выдает агрегат последних count элементов или элементов за последние timespan.
+// Устаревшие элементы вытесняет и задача на планировщике, поэтому память не растет, пока источник молчит;
+// если после вытеснения окно не пусто, подписчик получает обновленный агрегат
+public final class SlidingAggregateObserver<T, A> extends BasicObserver<T, A> implements Runnable {
+
+    private final Function<T, A> mapper;
+    private final TwoStackAggregator<A> window;
+    private final int count;
+    private final long timespanNanos;
+    private boolean done;
+    private Disposable timer;
+
+    public SlidingAggregateObserver(Observer<A> downstream, Function<T, A> mapper, BinaryOperator<A> combiner,
+                                    int count, long timespanNanos) {
+        super(downstream);
+        this.mapper = mapper;
+        this.window = new TwoStackAggregator<>(combiner);
+        this.count = count;
+        this.timespanNanos = timespanNanos;
+    }
+
+    public void start(Scheduler scheduler) {
+        downstream.onSubscribe(this);
+        // Проверка чаще длины окна: лишние элементы живут не дольше четверти окна
+        long period = Math.max(timespanNanos / 4, TimeUnit.MILLISECONDS.toNanos(1));
+        Disposable task = scheduler.schedulePeriodically(this, period, period, TimeUnit.NANOSECONDS);
+        synchronized (this) {
+            if (done) {
+                task.dispose();
+            } else {
+                timer = task;
+            }
+        }
+    }
+
+    @Override
+    public void onSubscribe(Disposable disposable) {
+        if (timespanNanos == Long.MAX_VALUE) {
+            super.onSubscribe(disposable);
+        } else {
+            setUpstream(disposable);
+        }
+    }
+
+    @Override
+    public synchronized void onNext(T item) {
+        if (done) {
+            return;
+        }
+        A aggregate;
+        try {
+            long now = timespanNanos == Long.MAX_VALUE ? 0 : System.nanoTime();
+            window.push(mapper.apply(item), now);
+            if (window.size() > count) {
+                window.evict();
+            }
+            evictExpired(now);
+            aggregate = window.aggregate();
+        } catch (Exception e) {
+            disposeUpstream();
+            onError(e);
+            return;
+        }
+        downstream.onNext(aggregate);
+    }
+
+    @Override
+    public synchronized void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        terminate();
+        downstream.onError(e);
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        if (done) {
+            return;
+        }
+        terminate();
+        downstream.onComplete();
+    }
+
+    @Override
+    public synchronized void run() {
+        if (done) {
+            return;
+        }
+        int size = window.size();
+        try {
+            evictExpired(System.nanoTime());
+        } catch (Exception e) {
+            disposeUpstream();
+            onError(e);
+            return;
+        }
+        if (window.size() != size && window.size() > 0) {
+            downstream.onNext(window.aggregate());
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposeUpstream();
+        synchronized (this) {
+            terminate();
+        }
+    }
+
+    private void evictExpired(long now) {
+        if (timespanNanos == Long.MAX_VALUE) {
+            return;
+        }
+        while (window.size() > 0 && now - window.oldestTime() >= timespanNanos) {
+            window.evict();
+        }
+    }
+
+    private void terminate() {
+        done = true;
+        window.clear();
+        if (timer != null) {
+            timer.dispose();
+        }
+    }
+}
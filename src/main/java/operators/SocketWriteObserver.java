@@ -0,0 +1,202 @@
+package operators;
+
+import components.Observer;
+import queues.SimpleQueue;
+import queues.SpscLinkedArrayQueue;
+import schedulers.SelectorLoop;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+// Пишет буферы в сокет из потока цикла: накопленные буферы уходят одним gathering write, а при заполненном
+// буфере сокета запись продолжается по готовности OP_WRITE. По завершении выдает число записанных байтов
+public final class SocketWriteObserver extends BasicObserver<ByteBuffer, Long> implements Consumer<SelectionKey> {
+
+    private static final int MAX_BATCH = 64;
+
+    private final SocketChannel channel;
+    private final SelectorLoop loop;
+    private final SimpleQueue<ByteBuffer> queue;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final ByteBuffer[] batch = new ByteBuffer[MAX_BATCH];
+    private final Runnable drainTask = this::drain;
+    private int head;
+    private int count;
+    private long written;
+    private SelectionKey key;
+    private Throwable error;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+
+    public SocketWriteObserver(Observer<Long> downstream, SocketChannel channel, SelectorLoop loop, int bufferSize) {
+        super(downstream);
+        this.channel = channel;
+        this.loop = loop;
+        this.queue = new SpscLinkedArrayQueue<>(bufferSize);
+    }
+
+    @Override
+    public void onNext(ByteBuffer buffer) {
+        if (done) {
+            return;
+        }
+        queue.offer(buffer);
+        schedule();
+    }
+
+    // Ошибка источника передается из цикла без записи оставшихся буферов
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        error = e;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void dispose() {
+        cancelled = true;
+        disposeUpstream();
+        schedule();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return cancelled;
+    }
+
+    // Сокет снова принимает данные
+    @Override
+    public void accept(SelectionKey selectionKey) {
+        // Снимается только свой OP_WRITE: ключ может делить чтение этого же канала
+        selectionKey.interestOps(selectionKey.interestOps() & ~SelectionKey.OP_WRITE);
+        if (wip.getAndIncrement() == 0) {
+            drain();
+        }
+    }
+
+    private void schedule() {
+        if (wip.getAndIncrement() == 0) {
+            try {
+                loop.execute(drainTask);
+            } catch (RejectedExecutionException e) {
+                cancelled = true;
+                queue.clear();
+            }
+        }
+    }
+
+    private void drain() {
+        int missed = 1;
+        for (;;) {
+            if (cancelled) {
+                release();
+                return;
+            }
+            if (done && error != null) {
+                cancelled = true;
+                release();
+                downstream.onError(error);
+                return;
+            }
+            while (count < MAX_BATCH) {
+                ByteBuffer buffer = queue.poll();
+                if (buffer == null) {
+                    break;
+                }
+                batch[count++] = buffer;
+            }
+            boolean full = false;
+            if (head != count) {
+                try {
+                    if (channel.isBlocking()) {
+                        channel.configureBlocking(false);
+                    }
+                    written += channel.write(batch, head, count - head);
+                } catch (IOException e) {
+                    cancelled = true;
+                    disposeUpstream();
+                    release();
+                    downstream.onError(e);
+                    return;
+                }
+                while (head != count && !batch[head].hasRemaining()) {
+                    batch[head++] = null;
+                }
+                if (head == count) {
+                    head = 0;
+                    count = 0;
+                } else {
+                    full = true;
+                }
+            }
+
+            if (full) {
+                if (!awaitWritable()) {
+                    return;
+                }
+            } else if (count == 0 && !queue.isEmpty()) {
+                // Очередь длиннее пачки: продолжаем без ожидания новых сигналов
+                continue;
+            } else if (done && count == 0 && queue.isEmpty()) {
+                cancelled = true;
+                release();
+                downstream.onNext(written);
+                downstream.onComplete();
+                return;
+            }
+
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    // Буфер сокета заполнен: продолжим, когда Selector сообщит о готовности к записи
+    private boolean awaitWritable() {
+        try {
+            if (key == null) {
+                key = loop.register(channel, SelectionKey.OP_WRITE, this);
+            } else {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            }
+            return true;
+        } catch (IOException e) {
+            cancelled = true;
+            disposeUpstream();
+            release();
+            downstream.onError(e);
+            return false;
+        }
+    }
+
+    private void release() {
+        queue.clear();
+        for (int i = head; i < count; i++) {
+            batch[i] = null;
+        }
+        head = 0;
+        count = 0;
+        if (key != null) {
+            loop.unregister(key, this);
+            key = null;
+        }
+    }
+}
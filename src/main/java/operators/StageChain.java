@@ -0,0 +1,59 @@
+package operators;
+
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Функции map/filter по порядку; слитая стадия и рельсы parallel применяют их к элементу одним циклом
+public final class StageChain {
+
+    public static final Object FILTERED = new Object();
+
+    private static final StageChain EMPTY = new StageChain(new Object[0], new boolean[0]);
+
+    private final Object[] stages;
+    private final boolean[] filters;
+
+    private StageChain(Object[] stages, boolean[] filters) {
+        this.stages = stages;
+        this.filters = filters;
+    }
+
+    public static StageChain empty() {
+        return EMPTY;
+    }
+
+    public StageChain map(Function<?, ?> mapper) {
+        return append(mapper, false);
+    }
+
+    public StageChain filter(Predicate<?> predicate) {
+        return append(predicate, true);
+    }
+
+    private StageChain append(Object stage, boolean filter) {
+        int length = stages.length;
+        Object[] newStages = Arrays.copyOf(stages, length + 1);
+        boolean[] newFilters = Arrays.copyOf(filters, length + 1);
+        newStages[length] = stage;
+        newFilters[length] = filter;
+        return new StageChain(newStages, newFilters);
+    }
+
+    // Возвращает результат последней стадии или FILTERED, если элемент отброшен
+    @SuppressWarnings("unchecked")
+    public Object apply(Object value) throws Exception {
+        Object[] stages = this.stages;
+        boolean[] filters = this.filters;
+        for (int i = 0; i < stages.length; i++) {
+            if (filters[i]) {
+                if (!((Predicate<Object>) stages[i]).test(value)) {
+                    return FILTERED;
+                }
+            } else {
+                value = ((Function<Object, Object>) stages[i]).apply(value);
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,91 @@
+package operators;
+
+import components.Disposable;
+import components.Observable;
+import components.Observer;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// Подписка на источник в потоке планировщика; отписка снимает еще не начатую задачу или прерывает блокирующий источник
+public final class SubscribeOnObserver<T> implements Observer<T>, Disposable, Runnable {
+
+    private static final Object FINISHED = new Object();
+    private static final Object DISPOSED = new Object();
+    private static final Object INTERRUPTING = new Object();
+
+    private final Observer<T> downstream;
+    private final Observable<T> source;
+    private final AtomicReference<Disposable> upstream = new AtomicReference<>();
+    // null - задача не начата, Thread - выполняется в этом потоке, далее одно из состояний-маркеров
+    private final AtomicReference<Object> runner = new AtomicReference<>();
+
+    public SubscribeOnObserver(Observer<T> downstream, Observable<T> source) {
+        this.downstream = downstream;
+        this.source = source;
+    }
+
+    @Override
+    public void run() {
+        Thread current = Thread.currentThread();
+        if (!runner.compareAndSet(null, current)) {
+            return;
+        }
+        try {
+            source.subscribe(this);
+        } finally {
+            if (!runner.compareAndSet(current, FINISHED)) {
+                // Поток прерван отпиской: дожидаемся interrupt() и снимаем флаг, чтобы он не достался следующей задаче
+                while (runner.get() == INTERRUPTING) {
+                    Thread.yield();
+                }
+                Thread.interrupted();
+            }
+        }
+    }
+
+    @Override
+    public void onSubscribe(Disposable disposable) {
+        DisposableHelper.set(upstream, disposable);
+    }
+
+    @Override
+    public void onNext(T item) {
+        downstream.onNext(item);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        downstream.onError(e);
+    }
+
+    @Override
+    public void onComplete() {
+        downstream.onComplete();
+    }
+
+    @Override
+    public void dispose() {
+        DisposableHelper.dispose(upstream);
+        for (;;) {
+            Object state = runner.get();
+            if (state == FINISHED || state == DISPOSED || state == INTERRUPTING) {
+                return;
+            }
+            if (state == null || state == Thread.currentThread()) {
+                // Задача еще не начата или отписка пришла из самого источника - прерывать некого
+                if (runner.compareAndSet(state, DISPOSED)) {
+                    return;
+                }
+            } else if (runner.compareAndSet(state, INTERRUPTING)) {
+                ((Thread) state).interrupt();
+                runner.set(DISPOSED);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return DisposableHelper.isDisposed(upstream);
+    }
+}
@@ -0,0 +1,99 @@
+package operators;
+
+import components.Disposable;
+import components.Observer;
+import components.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public final class TimeoutObserver<T> extends BasicObserver<T, T> {
+
+    private static final long TERMINATED = Long.MAX_VALUE;
+
+    private final long timeout;
+    private final TimeUnit unit;
+    private final Scheduler scheduler;
+    // Номер ожидаемого элемента; сигнал выдает тот, кто первым сдвинет номер
+    private final AtomicLong index = new AtomicLong();
+    private final AtomicReference<Disposable> timer = new AtomicReference<>();
+
+    public TimeoutObserver(Observer<T> downstream, long timeout, TimeUnit unit, Scheduler scheduler) {
+        super(downstream);
+        this.timeout = timeout;
+        this.unit = unit;
+        this.scheduler = scheduler;
+    }
+
+    public void start() {
+        downstream.onSubscribe(this);
+        startTimeout(0);
+    }
+
+    @Override
+    public void onSubscribe(Disposable disposable) {
+        setUpstream(disposable);
+    }
+
+    @Override
+    public void onNext(T item) {
+        long idx = index.get();
+        if (idx == TERMINATED || !index.compareAndSet(idx, idx + 1)) {
+            return;
+        }
+        cancelTimeout();
+        downstream.onNext(item);
+        startTimeout(idx + 1);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (index.getAndSet(TERMINATED) != TERMINATED) {
+            cancelTimeout();
+            downstream.onError(e);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (index.getAndSet(TERMINATED) != TERMINATED) {
+            cancelTimeout();
+            downstream.onComplete();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        index.set(TERMINATED);
+        cancelTimeout();
+        disposeUpstream();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return index.get() == TERMINATED;
+    }
+
+    private void startTimeout(long idx) {
+        Disposable task = scheduler.schedule(() -> {
+            if (index.compareAndSet(idx, TERMINATED)) {
+                disposeUpstream();
+                downstream.onError(new TimeoutException(
+                        "No item within " + timeout + " " + unit.toString().toLowerCase()));
+            }
+        }, timeout, unit);
+        Disposable previous = timer.getAndSet(task);
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+
+    private void cancelTimeout() {
+        Disposable current = timer.get();
+        if (current != null) {
+            current.dispose();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package operators;
+
+import java.util.Arrays;
+import java.util.function.BinaryOperator;
+
+// Агрегат скользящего окна для ассоциативной функции без обратной (max, min, слияние гистограмм) за O(1)
+// в среднем на элемент. Кольцо делится на две части: в старой хранятся агрегаты от элемента до конца этой части,
+// для новой - один общий агрегат. Когда старая часть исчерпана, новая пересчитывается в нее за один проход
+final class TwoStackAggregator<A> {
+
+    private final BinaryOperator<A> combiner;
+    private Object[] values = new Object[16];
+    private Object[] suffixes = new Object[16];
+    private long[] times = new long[16];
+    private int mask = 15;
+    private long head;
+    private long split;
+    private long tail;
+    private A back;
+
+    TwoStackAggregator(BinaryOperator<A> combiner) {
+        this.combiner = combiner;
+    }
+
+    int size() {
+        return (int) (tail - head);
+    }
+
+    void push(A value, long time) {
+        if (tail - head == values.length) {
+            grow();
+        }
+        int offset = (int) tail & mask;
+        values[offset] = value;
+        times[offset] = time;
+        tail++;
+        back = back == null ? value : combiner.apply(back, value);
+    }
+
+    long oldestTime() {
+        return times[(int) head & mask];
+    }
+
+    @SuppressWarnings("unchecked")
+    void evict() {
+        if (head == split) {
+            A suffix = null;
+            for (long i = tail - 1; i >= head; i--) {
+                int offset = (int) i & mask;
+                A value = (A) values[offset];
+                suffix = suffix == null ? value : combiner.apply(value, suffix);
+                suffixes[offset] = suffix;
+            }
+            split = tail;
+            back = null;
+        }
+        int offset = (int) head & mask;
+        values[offset] = null;
+        suffixes[offset] = null;
+        head++;
+    }
+
+    // null для пустого окна
+    @SuppressWarnings("unchecked")
+    A aggregate() {
+        A front = head < split ? (A) suffixes[(int) head & mask] : null;
+        if (front == null) {
+            return back;
+        }
+        return back == null ? front : combiner.apply(front, back);
+    }
+
+    void clear() {
+        Arrays.fill(values, null);
+        Arrays.fill(suffixes, null);
+        head = split = tail;
+        back = null;
+    }
+
+    private void grow() {
+        int capacity = values.length * 2;
+        Object[] newValues = new Object[capacity];
+        Object[] newSuffixes = new Object[capacity];
+        long[] newTimes = new long[capacity];
+        for (long i = head; i < tail; i++) {
+            int from = (int) i & mask;
+            int to = (int) i & (capacity - 1);
+            newValues[to] = values[from];
+            newSuffixes[to] = suffixes[from];
+            newTimes[to] = times[from];
+        }
+        values = newValues;
+        suffixes = newSuffixes;
+        times = newTimes;
+        mask = capacity - 1;
+    }
+}
@@ -0,0 +1,88 @@
+package operators;
+
+import components.Observable;
+import components.ObservableEmitter;
+import queues.SimpleQueue;
+import queues.SpscLinkedArrayQueue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Окно от window: копит элементы, пока на него не подпишутся; подписчик может быть только один
+public final class WindowObservable<T> extends Observable<T> {
+
+    private final SimpleQueue<T> queue;
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean once = new AtomicBoolean();
+    private volatile ObservableEmitter<T> downstream;
+    private volatile boolean done;
+    private Throwable error;
+
+    public WindowObservable(int bufferSize) {
+        this.queue = new SpscLinkedArrayQueue<>(bufferSize);
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> observer) {
+        if (!once.compareAndSet(false, true)) {
+            observer.onError(new IllegalStateException("Window allows only one subscriber"));
+            return;
+        }
+        downstream = observer;
+        drain();
+    }
+
+    void onNext(T item) {
+        queue.offer(item);
+        drain();
+    }
+
+    void onError(Throwable e) {
+        error = e;
+        done = true;
+        drain();
+    }
+
+    void onComplete() {
+        done = true;
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            ObservableEmitter<T> observer = downstream;
+            if (observer != null) {
+                for (;;) {
+                    if (observer.isDisposed()) {
+                        queue.clear();
+                        return;
+                    }
+                    boolean d = done;
+                    T item = queue.poll();
+                    boolean empty = item == null;
+                    if (d && empty) {
+                        Throwable ex = error;
+                        if (ex != null) {
+                            observer.onError(ex);
+                        } else {
+                            observer.onComplete();
+                        }
+                        return;
+                    }
+                    if (empty) {
+                        break;
+                    }
+                    observer.onNext(item);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package operators;
+
+import components.Observable;
+import components.Observer;
+
+public final class WindowObserver<T> extends BasicObserver<T, Observable<T>> {
+
+    private final int count;
+    private final int bufferSize;
+    private WindowObservable<T> window;
+    private int size;
+
+    public WindowObserver(Observer<Observable<T>> downstream, int count, int bufferSize) {
+        super(downstream);
+        this.count = count;
+        this.bufferSize = bufferSize;
+    }
+
+    // Окно открывается первым элементом, поэтому пустых окон не бывает
+    @Override
+    public void onNext(T item) {
+        WindowObservable<T> w = window;
+        if (w == null) {
+            w = new WindowObservable<>(Math.min(count, bufferSize));
+            window = w;
+            downstream.onNext(w);
+        }
+        w.onNext(item);
+        if (++size == count) {
+            window = null;
+            size = 0;
+            w.onComplete();
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        WindowObservable<T> w = window;
+        if (w != null) {
+            window = null;
+            w.onError(e);
+        }
+        downstream.onError(e);
+    }
+
+    @Override
+    public void onComplete() {
+        WindowObservable<T> w = window;
+        if (w != null) {
+            window = null;
+            w.onComplete();
+        }
+        downstream.onComplete();
+    }
+}
@@ -0,0 +1,111 @@
+package operators;
+
+import components.Disposable;
+import components.Observable;
+import components.Observer;
+import components.Scheduler;
+
+import java.util.concurrent.TimeUnit;
+
+// Окно закрывается по достижении count или по таймеру, смотря что наступит раньше
+public final class WindowTimedObserver<T> extends BasicObserver<T, Observable<T>> implements Runnable {
+
+    private final int count;
+    private final int bufferSize;
+    private WindowObservable<T> window;
+    private int size;
+    private boolean done;
+    private Disposable timer;
+
+    public WindowTimedObserver(Observer<Observable<T>> downstream, int count, int bufferSize) {
+        super(downstream);
+        this.count = count;
+        this.bufferSize = bufferSize;
+    }
+
+    public void start(long timespan, TimeUnit unit, Scheduler scheduler) {
+        downstream.onSubscribe(this);
+        Disposable task = scheduler.schedulePeriodically(this, timespan, timespan, unit);
+        synchronized (this) {
+            if (done) {
+                task.dispose();
+            } else {
+                timer = task;
+            }
+        }
+    }
+
+    @Override
+    public void onSubscribe(Disposable disposable) {
+        setUpstream(disposable);
+    }
+
+    @Override
+    public synchronized void onNext(T item) {
+        if (done) {
+            return;
+        }
+        if (window == null) {
+            window = new WindowObservable<>(Math.min(count, bufferSize));
+            downstream.onNext(window);
+        }
+        window.onNext(item);
+        if (++size == count) {
+            closeWindow();
+        }
+    }
+
+    @Override
+    public synchronized void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        terminate();
+        if (window != null) {
+            window.onError(e);
+            window = null;
+        }
+        downstream.onError(e);
+    }
+
+    @Override
+    public synchronized void onComplete() {
+        if (done) {
+            return;
+        }
+        terminate();
+        closeWindow();
+        downstream.onComplete();
+    }
+
+    @Override
+    public synchronized void run() {
+        if (!done) {
+            closeWindow();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        disposeUpstream();
+        synchronized (this) {
+            terminate();
+        }
+    }
+
+    private void closeWindow() {
+        WindowObservable<T> w = window;
+        if (w != null) {
+            window = null;
+            size = 0;
+            w.onComplete();
+        }
+    }
+
+    private void terminate() {
+        done = true;
+        if (timer != null) {
+            timer.dispose();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package operators;
+
+import components.Observable;
+import components.ObservableEmitter;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// zip: i-й результат собирается из i-х элементов всех источников. Каждый источник пишет в свою очередь,
+// выдачу ведет один поток, захвативший счетчик wip, поэтому источники могут работать на разных планировщиках
+public final class ZipCoordinator<R> implements Runnable {
+
+    private final ObservableEmitter<R> downstream;
+    private final Function<Object[], R> zipper;
+    private final QueuedInnerObserver<Object>[] inners;
+    private final Object[] row;
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile boolean cancelled;
+
+    @SuppressWarnings("unchecked")
+    public ZipCoordinator(ObservableEmitter<R> downstream, Function<Object[], R> zipper, int count, int bufferSize) {
+        this.downstream = downstream;
+        this.zipper = zipper;
+        this.inners = (QueuedInnerObserver<Object>[]) new QueuedInnerObserver<?>[count];
+        for (int i = 0; i < count; i++) {
+            inners[i] = new QueuedInnerObserver<>(bufferSize, this);
+        }
+        this.row = new Object[count];
+    }
+
+    @SuppressWarnings("unchecked")
+    public void subscribe(Observable<?>[] sources) {
+        downstream.setCancellable(this::cancel);
+        if (sources.length == 0) {
+            downstream.onComplete();
+            return;
+        }
+        for (int i = 0; i < sources.length && !cancelled; i++) {
+            ((Observable<Object>) sources[i]).subscribe(inners[i]);
+        }
+    }
+
+    // Вызывается источниками после каждого сигнала
+    @Override
+    public void run() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            for (;;) {
+                if (cancelled) {
+                    clear();
+                    return;
+                }
+                int missing = 0;
+                for (int i = 0; i < inners.length; i++) {
+                    QueuedInnerObserver<Object> inner = inners[i];
+                    boolean d = inner.done;
+                    // Ошибка выдается сразу, даже если элемент этого источника уже ждет в строке
+                    if (d && inner.error != null) {
+                        terminate(inner.error);
+                        return;
+                    }
+                    if (row[i] != null) {
+                        continue;
+                    }
+                    Object item = inner.queue.poll();
+                    if (item == null) {
+                        // Источник завершился и больше не даст элемент для строки
+                        if (d) {
+                            terminate(null);
+                            return;
+                        }
+                        missing++;
+                    } else {
+                        row[i] = item;
+                    }
+                }
+                if (missing != 0) {
+                    break;
+                }
+                R result;
+                try {
+                    result = zipper.apply(row.clone());
+                } catch (Exception e) {
+                    terminate(e);
+                    return;
+                }
+                Arrays.fill(row, null);
+                downstream.onNext(result);
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private void terminate(Throwable error) {
+        cancel();
+        clear();
+        if (error != null) {
+            downstream.onError(error);
+        } else {
+            downstream.onComplete();
+        }
+    }
+
+    private void cancel() {
+        cancelled = true;
+        for (QueuedInnerObserver<Object> inner : inners) {
+            inner.dispose();
+        }
+    }
+
+    private void clear() {
+        Arrays.fill(row, null);
+        for (QueuedInnerObserver<Object> inner : inners) {
+            inner.queue.clear();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package plugins;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Накапливает метрики в памяти процесса; удобна в тестах и для выгрузки в собственную систему мониторинга
+public final class InMemoryInstrumentation implements Instrumentation {
+
+    private final Map<String, OperatorStats> operators = new ConcurrentHashMap<>();
+    private final Map<String, SchedulerStats> schedulers = new ConcurrentHashMap<>();
+
+    public OperatorStats operator(String name) {
+        return operators.computeIfAbsent(name, key -> new OperatorStats());
+    }
+
+    public SchedulerStats scheduler(String name) {
+        return schedulers.computeIfAbsent(name, key -> new SchedulerStats());
+    }
+
+    public Map<String, OperatorStats> operators() {
+        return Map.copyOf(operators);
+    }
+
+    public Map<String, SchedulerStats> schedulers() {
+        return Map.copyOf(schedulers);
+    }
+
+    @Override
+    public void onSubscribe(String operator) {
+        OperatorStats stats = operator(operator);
+        stats.subscriptions.increment();
+        stats.activeSubscriptions.incrementAndGet();
+    }
+
+    @Override
+    public void onNext(String operator, long latencyNanos) {
+        OperatorStats stats = operator(operator);
+        stats.items.increment();
+        stats.latency.record(latencyNanos);
+    }
+
+    @Override
+    public void onSubscriptionEnd(String operator, long lifetimeNanos) {
+        OperatorStats stats = operator(operator);
+        stats.activeSubscriptions.decrementAndGet();
+        stats.lifetimes.record(lifetimeNanos);
+    }
+
+    @Override
+    public void onQueueDepth(String operator, int depth) {
+        operator(operator).maxQueueDepth.accumulateAndGet(depth, Math::max);
+    }
+
+    @Override
+    public void onTaskQueued(String scheduler) {
+        scheduler(scheduler).queued.incrementAndGet();
+    }
+
+    @Override
+    public void onTaskStarted(String scheduler, long waitNanos) {
+        SchedulerStats stats = scheduler(scheduler);
+        stats.queued.decrementAndGet();
+        stats.active.incrementAndGet();
+        stats.waitTime.record(waitNanos);
+    }
+
+    @Override
+    public void onTaskCompleted(String scheduler, long runNanos) {
+        SchedulerStats stats = scheduler(scheduler);
+        stats.active.decrementAndGet();
+        stats.completed.increment();
+        stats.runTime.record(runNanos);
+    }
+
+    public static final class OperatorStats {
+
+        private final LongAdder items = new LongAdder();
+        private final LongAdder subscriptions = new LongAdder();
+        private final AtomicLong activeSubscriptions = new AtomicLong();
+        private final AtomicInteger maxQueueDepth = new AtomicInteger();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram lifetimes = new LatencyHistogram();
+
+        public long items() {
+            return items.sum();
+        }
+
+        public long subscriptions() {
+            return subscriptions.sum();
+        }
+
+        public long activeSubscriptions() {
+            return activeSubscriptions.get();
+        }
+
+        public int maxQueueDepth() {
+            return maxQueueDepth.get();
+        }
+
+        public LatencyHistogram latency() {
+            return latency;
+        }
+
+        public LatencyHistogram lifetimes() {
+            return lifetimes;
+        }
+    }
+
+    public static final class SchedulerStats {
+
+        private final AtomicLong queued = new AtomicLong();
+        private final AtomicLong active = new AtomicLong();
+        private final LongAdder completed = new LongAdder();
+        private final LatencyHistogram waitTime = new LatencyHistogram();
+        private final LatencyHistogram runTime = new LatencyHistogram();
+
+        public long queued() {
+            return queued.get();
+        }
+
+        public long active() {
+            return active.get();
+        }
+
+        public long completed() {
+            return completed.sum();
+        }
+
+        public LatencyHistogram waitTime() {
+            return waitTime;
+        }
+
+        public LatencyHistogram runTime() {
+            return runTime;
+        }
+    }
+}
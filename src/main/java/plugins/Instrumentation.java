@@ -0,0 +1,29 @@
+package plugins;
+
+// Получатель метрик операторов и планировщиков. Пока реализация не установлена через Plugins,
+// цепочки собираются без замеров и ничего не вызывается
+public interface Instrumentation {
+
+    default void onSubscribe(String operator) {
+    }
+
+    // Время, которое элемент провел в onNext ниже оператора, включая все следующие операторы и подписчика
+    default void onNext(String operator, long latencyNanos) {
+    }
+
+    // Подписка завершилась сигналом или отпиской
+    default void onSubscriptionEnd(String operator, long lifetimeNanos) {
+    }
+
+    default void onQueueDepth(String operator, int depth) {
+    }
+
+    default void onTaskQueued(String scheduler) {
+    }
+
+    default void onTaskStarted(String scheduler, long waitNanos) {
+    }
+
+    default void onTaskCompleted(String scheduler, long runNanos) {
+    }
+}
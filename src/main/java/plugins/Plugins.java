@@ -0,0 +1,79 @@
+package plugins;
+
+import components.Observable;
+import operators.MeteredObservable;
+
+import java.util.function.Function;
+
+// Глобальные точки расширения: замеры, обертка собираемых Observable и задач планировщиков
+public final class Plugins {
+
+    private static volatile Instrumentation instrumentation;
+    private static volatile Function<Observable<?>, Observable<?>> onAssembly;
+    private static volatile Function<Runnable, Runnable> onSchedule;
+
+    private Plugins() {
+    }
+
+    public static Instrumentation instrumentation() {
+        return instrumentation;
+    }
+
+    // Действует на цепочки, собранные после вызова; null отключает замеры
+    public static void setInstrumentation(Instrumentation value) {
+        instrumentation = value;
+    }
+
+    public static void setOnAssembly(Function<Observable<?>, Observable<?>> hook) {
+        onAssembly = hook;
+    }
+
+    // Обертка применяется в потоке, который ставит задачу, поэтому подходит для переноса контекста
+    public static void setOnSchedule(Function<Runnable, Runnable> hook) {
+        onSchedule = hook;
+    }
+
+    public static void reset() {
+        instrumentation = null;
+        onAssembly = null;
+        onSchedule = null;
+    }
+
+    // С замерами оператор получает отдельную стадию, поэтому слияние map/filter в этом режиме не выполняется
+    @SuppressWarnings("unchecked")
+    public static <T> Observable<T> onAssembly(String operator, Observable<T> source) {
+        Instrumentation metrics = instrumentation;
+        if (metrics != null) {
+            source = new MeteredObservable<>(source, operator, metrics);
+        }
+        Function<Observable<?>, Observable<?>> hook = onAssembly;
+        if (hook != null) {
+            source = (Observable<T>) hook.apply(source);
+        }
+        return source;
+    }
+
+    public static Runnable onSchedule(Runnable task) {
+        Function<Runnable, Runnable> hook = onSchedule;
+        return hook == null ? task : hook.apply(task);
+    }
+
+    // Счетчики задач планировщика: в очереди, выполняются, выполнены
+    public static Runnable onTask(String scheduler, Runnable task) {
+        Instrumentation metrics = instrumentation;
+        if (metrics == null) {
+            return task;
+        }
+        metrics.onTaskQueued(scheduler);
+        long queuedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            metrics.onTaskStarted(scheduler, startedAt - queuedAt);
+            try {
+                task.run();
+            } finally {
+                metrics.onTaskCompleted(scheduler, System.nanoTime() - startedAt);
+            }
+        };
+    }
+}
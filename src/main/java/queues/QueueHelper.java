@@ -0,0 +1,14 @@
+package queues;
+
+final class QueueHelper {
+
+    private QueueHelper() {
+    }
+
+    static int roundToPowerOfTwo(int value) {
+        if (value <= 1) {
+            return 1;
+        }
+        return 1 << (32 - Integer.numberOfLeadingZeros(value - 1));
+    }
+}
@@ -0,0 +1,12 @@
+package queues;
+
+public interface SimpleQueue<T> {
+
+    boolean offer(T item);
+
+    T poll();
+
+    boolean isEmpty();
+
+    void clear();
+}
@@ -0,0 +1,62 @@
+package queues;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Ограниченный кольцевой буфер: один поток пишет, один поток читает
+public final class SpscArrayQueue<T> implements SimpleQueue<T> {
+
+    private final AtomicReferenceArray<T> buffer;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    public SpscArrayQueue(int capacity) {
+        int size = QueueHelper.roundToPowerOfTwo(Math.max(2, capacity));
+        this.buffer = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    @Override
+    public boolean offer(T item) {
+        long index = producerIndex.get();
+        int offset = (int) index & mask;
+        // Занятая ячейка означает, что читатель отстал на целый круг
+        if (buffer.get(offset) != null) {
+            return false;
+        }
+        buffer.lazySet(offset, item);
+        producerIndex.lazySet(index + 1);
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        long index = consumerIndex.get();
+        int offset = (int) index & mask;
+        T item = buffer.get(offset);
+        if (item == null) {
+            return null;
+        }
+        buffer.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1);
+        return item;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return producerIndex.get() == consumerIndex.get();
+    }
+
+    @Override
+    public void clear() {
+        T item;
+        do {
+            item = poll();
+        } while (item != null);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,80 @@
+package queues;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Кольцевой буфер, который при переполнении связывается со следующим кольцом того же размера
+public final class SpscLinkedArrayQueue<T> implements SimpleQueue<T> {
+
+    private static final Object HAS_NEXT = new Object();
+
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+    private AtomicReferenceArray<Object> producerBuffer;
+    private AtomicReferenceArray<Object> consumerBuffer;
+
+    public SpscLinkedArrayQueue(int bufferSize) {
+        int size = QueueHelper.roundToPowerOfTwo(Math.max(8, bufferSize));
+        this.mask = size - 1;
+        // Последняя ячейка хранит ссылку на следующее кольцо
+        AtomicReferenceArray<Object> buffer = new AtomicReferenceArray<>(size + 1);
+        this.producerBuffer = buffer;
+        this.consumerBuffer = buffer;
+    }
+
+    @Override
+    public boolean offer(T item) {
+        AtomicReferenceArray<Object> buffer = producerBuffer;
+        long index = producerIndex.get();
+        int offset = (int) index & mask;
+
+        if (buffer.get((int) (index + 1) & mask) == null) {
+            buffer.lazySet(offset, item);
+        } else {
+            AtomicReferenceArray<Object> next = new AtomicReferenceArray<>(mask + 2);
+            producerBuffer = next;
+            next.lazySet(offset, item);
+            buffer.lazySet(mask + 1, next);
+            buffer.lazySet(offset, HAS_NEXT);
+        }
+        producerIndex.lazySet(index + 1);
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        AtomicReferenceArray<Object> buffer = consumerBuffer;
+        long index = consumerIndex.get();
+        int offset = (int) index & mask;
+        Object item = buffer.get(offset);
+
+        if (item == HAS_NEXT) {
+            AtomicReferenceArray<Object> next = (AtomicReferenceArray<Object>) buffer.get(mask + 1);
+            buffer.lazySet(mask + 1, null);
+            consumerBuffer = next;
+            item = next.get(offset);
+            buffer = next;
+        }
+        if (item == null) {
+            return null;
+        }
+        buffer.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1);
+        return (T) item;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return producerIndex.get() == consumerIndex.get();
+    }
+
+    @Override
+    public void clear() {
+        T item;
+        do {
+            item = poll();
+        } while (item != null);
+    }
+}
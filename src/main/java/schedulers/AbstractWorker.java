@@ -0,0 +1,131 @@
+package schedulers;
+
+import components.Disposable;
+import components.Scheduler;
+import plugins.Plugins;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public abstract class AbstractWorker implements Scheduler.Worker {
+
+    private final Set<TimedTask> timers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean disposed = new AtomicBoolean();
+
+    // Выполнение задачи на исполнителе; вызывается только пока исполнитель не освобожден
+    protected abstract void submit(Runnable task);
+
+    protected void onDispose() {
+    }
+
+    @Override
+    public final void execute(Runnable task) {
+        if (!disposed.get()) {
+            submit(Plugins.onSchedule(task));
+        }
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return addTimer(task, delay, 0, unit);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return addTimer(task, initialDelay, period, unit);
+    }
+
+    @Override
+    public void dispose() {
+        if (!disposed.compareAndSet(false, true)) {
+            return;
+        }
+        // Отложенные задачи освобожденного исполнителя снимаются с таймера сразу
+        for (TimedTask timer : timers) {
+            timer.dispose();
+        }
+        onDispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return disposed.get();
+    }
+
+    private Disposable addTimer(Runnable task, long delay, long period, TimeUnit unit) {
+        if (disposed.get()) {
+            return DisposedTask.INSTANCE;
+        }
+        TimedTask timed = new TimedTask(task, period > 0);
+        timers.add(timed);
+        HashedWheelTimer timer = HashedWheelTimer.shared();
+        timed.setTimeout(period > 0
+                ? timer.schedulePeriodically(timed, delay, period, unit)
+                : timer.schedule(timed, delay, unit));
+        if (disposed.get()) {
+            timed.dispose();
+        }
+        return timed;
+    }
+
+    private final class TimedTask implements Runnable, Disposable {
+
+        private final Runnable task;
+        private final boolean periodic;
+        private volatile Disposable timeout;
+        private volatile boolean cancelled;
+
+        TimedTask(Runnable task, boolean periodic) {
+            this.task = task;
+            this.periodic = periodic;
+        }
+
+        void setTimeout(Disposable timeout) {
+            this.timeout = timeout;
+            if (cancelled) {
+                timeout.dispose();
+            }
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            if (!periodic) {
+                timers.remove(this);
+            }
+            execute(task);
+        }
+
+        @Override
+        public void dispose() {
+            cancelled = true;
+            timers.remove(this);
+            Disposable current = timeout;
+            if (current != null) {
+                current.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return cancelled;
+        }
+    }
+
+    private enum DisposedTask implements Disposable {
+        INSTANCE;
+
+        @Override
+        public void dispose() {
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return true;
+        }
+    }
+}
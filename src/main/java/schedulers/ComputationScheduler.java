@@ -1,37 +1,105 @@
 package schedulers;
 
 import components.Scheduler;
+import plugins.Plugins;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class ComputationScheduler implements Scheduler {
 
-    private final ExecutorService executor;
+    public enum WorkerSelection {
+        ROUND_ROBIN,
+        LEAST_LOADED
+    }
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final EventLoop[] loops;
+    private final WorkerSelection selection;
+    private final AtomicInteger next = new AtomicInteger();
 
     public ComputationScheduler() {
 
         // Определение доступных потоков для пула
-        int processors = Runtime.getRuntime().availableProcessors();
-        this.executor = Executors.newFixedThreadPool(processors);
+        this(Runtime.getRuntime().availableProcessors(), WorkerSelection.ROUND_ROBIN);
+    }
+
+    public ComputationScheduler(int parallelism, WorkerSelection selection) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism > 0 required but it was " + parallelism);
+        }
+        this.selection = selection;
+        this.loops = new EventLoop[parallelism];
+        int instance = INSTANCES.incrementAndGet();
+        for (int i = 0; i < parallelism; i++) {
+            loops[i] = new EventLoop("computation-" + instance + "-" + i);
+            loops[i].start();
+        }
+    }
+
+    public int parallelism() {
+        return loops.length;
     }
 
     @Override
     public void execute(Runnable task) {
-        executor.execute(task);
+        nextLoop().submit(Plugins.onTask("computation", Plugins.onSchedule(task)));
+    }
+
+    @Override
+    public Worker createWorker() {
+        EventLoop loop = selection == WorkerSelection.LEAST_LOADED ? leastLoaded() : nextLoop();
+        return new EventLoopWorker(loop);
     }
 
     @Override
     public void shutdown() {
-        executor.shutdown();
+        for (EventLoop loop : loops) {
+            loop.shutdown();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
         try {
-            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
-                executor.shutdownNow();
+            for (EventLoop loop : loops) {
+                loop.awaitTermination(deadline);
             }
         } catch (InterruptedException e) {
-            executor.shutdownNow();
             Thread.currentThread().interrupt();
         }
     }
-}
\ No newline at end of file
+
+    private EventLoop nextLoop() {
+        return loops[Math.floorMod(next.getAndIncrement(), loops.length)];
+    }
+
+    private EventLoop leastLoaded() {
+        EventLoop best = loops[0];
+        for (int i = 1; i < loops.length; i++) {
+            if (loops[i].workers() < best.workers()) {
+                best = loops[i];
+            }
+        }
+        return best;
+    }
+
+    // Все задачи исполнителя выполняются на одном потоке цикла событий
+    private static final class EventLoopWorker extends AbstractWorker {
+
+        private final EventLoop loop;
+
+        EventLoopWorker(EventLoop loop) {
+            this.loop = loop;
+            loop.workerAdded();
+        }
+
+        @Override
+        protected void submit(Runnable task) {
+            loop.submit(Plugins.onTask("computation", task));
+        }
+
+        @Override
+        protected void onDispose() {
+            loop.workerRemoved();
+        }
+    }
+}
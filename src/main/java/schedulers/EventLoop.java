@@ -0,0 +1,89 @@
+package schedulers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Однопоточный цикл событий со своей lock-free очередью задач
+final class EventLoop implements Runnable {
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    private final AtomicInteger workers = new AtomicInteger();
+    private volatile boolean waiting;
+    private volatile boolean shutdown;
+
+    EventLoop(String name) {
+        this.thread = new Thread(this, name);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    void submit(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Event loop " + thread.getName() + " is shut down");
+        }
+        queue.offer(task);
+        if (waiting) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    int workers() {
+        return workers.get();
+    }
+
+    void workerAdded() {
+        workers.incrementAndGet();
+    }
+
+    void workerRemoved() {
+        workers.decrementAndGet();
+    }
+
+    void shutdown() {
+        shutdown = true;
+        LockSupport.unpark(thread);
+    }
+
+    // Ждет завершения цикла не дольше deadlineNanos (по System.nanoTime), затем прерывает его
+    void awaitTermination(long deadlineNanos) throws InterruptedException {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining > 0) {
+            thread.join(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+        }
+        if (thread.isAlive()) {
+            queue.clear();
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        for (;;) {
+            Runnable task = queue.poll();
+            if (task != null) {
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+                continue;
+            }
+            if (shutdown) {
+                return;
+            }
+            waiting = true;
+            // Повторная проверка после выставления флага, чтобы не пропустить задачу, добавленную перед парковкой
+            if (queue.isEmpty() && !shutdown) {
+                LockSupport.park(this);
+            }
+            waiting = false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package schedulers;
+
+import components.Scheduler;
+import plugins.Plugins;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Планировщик на ForkJoinPool в режиме FIFO: у каждого потока своя очередь, простаивающие потоки крадут задачи
+// у занятых. Задача, поставленная из потока пула (внутренние потоки flatMap, рекурсивные источники), попадает
+// в локальную очередь этого потока, а не в общую
+public class ForkJoinScheduler implements Scheduler {
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final ForkJoinPool pool;
+
+    public ForkJoinScheduler() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ForkJoinScheduler(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism > 0 required but it was " + parallelism);
+        }
+        String prefix = "forkjoin-" + INSTANCES.incrementAndGet() + "-";
+        AtomicInteger index = new AtomicInteger();
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(prefix + index.getAndIncrement());
+            return thread;
+        }, null, true);
+    }
+
+    public int parallelism() {
+        return pool.getParallelism();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Runnable measured = Plugins.onTask("forkjoin", Plugins.onSchedule(task));
+        if (ForkJoinTask.getPool() == pool) {
+            new RunnableTask(measured).fork();
+        } else {
+            pool.execute(measured);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(5, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ForkJoinTask.adapt сохранил бы исключение в задаче, которую никто не ждет; здесь оно уходит
+    // в обработчик потока, как у остальных планировщиков. Serializable унаследован от ForkJoinTask,
+    // но задачи никогда не сериализуются
+    @SuppressWarnings("serial")
+    private static final class RunnableTask extends ForkJoinTask<Void> {
+
+        private final Runnable task;
+
+        RunnableTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public Void getRawResult() {
+            return null;
+        }
+
+        @Override
+        protected void setRawResult(Void value) {
+        }
+
+        @Override
+        protected boolean exec() {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package schedulers;
+
+import components.Disposable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Таймер "колесо": постановка и отмена задачи за O(1), один поток обслуживает сотни тысяч отложенных задач
+public final class HashedWheelTimer {
+
+    private static final HashedWheelTimer SHARED = new HashedWheelTimer("wheel-timer", 1, TimeUnit.MILLISECONDS, 512);
+
+    private static final int INIT = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    // Сколько новых задач переносится в колесо за один тик, чтобы тик не растягивался
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long startTime;
+    private volatile boolean stopped;
+    private long tick;
+
+    public HashedWheelTimer(String name, long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        if (tickDuration <= 0 || ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("tickDuration and ticksPerWheel must be positive");
+        }
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.wheel = new Bucket[Math.max(1, size)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheel.length - 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public static HashedWheelTimer shared() {
+        return SHARED;
+    }
+
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return add(task, unit.toNanos(Math.max(0, delay)), 0);
+    }
+
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("period > 0 required but it was " + period);
+        }
+        return add(task, unit.toNanos(Math.max(0, initialDelay)), unit.toNanos(period));
+    }
+
+    public int pendingTimeouts() {
+        int count = 0;
+        for (Bucket bucket : wheel) {
+            count += bucket.size;
+        }
+        return count + pending.size();
+    }
+
+    public void stop() {
+        stopped = true;
+        LockSupport.unpark(worker);
+    }
+
+    private Disposable add(Runnable task, long delayNanos, long periodNanos) {
+        if (stopped) {
+            throw new IllegalStateException("Timer is stopped");
+        }
+        Timeout timeout = new Timeout(this, task, System.nanoTime() - startTime + delayNanos, periodNanos);
+        pending.offer(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        while (!stopped) {
+            long deadline = waitForNextTick();
+            if (stopped) {
+                break;
+            }
+            removeCancelled();
+            transferPending();
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        for (;;) {
+            long now = System.nanoTime() - startTime;
+            long sleep = deadline - now;
+            if (sleep <= 0 || stopped) {
+                return now;
+            }
+            LockSupport.parkNanos(this, sleep);
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            Timeout timeout = pending.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.state.get() == CANCELLED) {
+                continue;
+            }
+            place(timeout);
+        }
+    }
+
+    private void place(Timeout timeout) {
+        long calculated = timeout.deadline / tickNanos;
+        timeout.remainingRounds = (calculated - tick) / wheel.length;
+        // Просроченная задача попадает в текущую ячейку и сработает на этом же тике
+        long ticks = Math.max(calculated, tick);
+        wheel[(int) (ticks & mask)].add(timeout);
+    }
+
+    private void removeCancelled() {
+        for (;;) {
+            Timeout timeout = cancelled.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void reschedule(Timeout timeout) {
+        timeout.deadline += timeout.period;
+        // Через очередь новых задач, чтобы не добавлять задачу в ячейку, которую сейчас обходит таймер
+        if (timeout.state.compareAndSet(EXPIRED, INIT)) {
+            pending.offer(timeout);
+        }
+    }
+
+    private static final class Timeout implements Disposable {
+
+        final HashedWheelTimer timer;
+        final Runnable task;
+        final long period;
+        final AtomicInteger state = new AtomicInteger(INIT);
+        long deadline;
+        long remainingRounds;
+        Bucket bucket;
+        Timeout next;
+        Timeout prev;
+
+        Timeout(HashedWheelTimer timer, Runnable task, long deadline, long period) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        void expire() {
+            if (!state.compareAndSet(INIT, EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Throwable e) {
+                // Как и в ScheduledExecutorService, упавшая периодическая задача больше не повторяется
+                state.set(CANCELLED);
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                return;
+            }
+            if (period > 0) {
+                timer.reschedule(this);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            for (;;) {
+                int current = state.get();
+                if (current == CANCELLED || (current == EXPIRED && period == 0)) {
+                    return;
+                }
+                if (state.compareAndSet(current, CANCELLED)) {
+                    // Из ячейки колеса задачу убирает поток таймера
+                    timer.cancelled.offer(this);
+                    return;
+                }
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return state.get() == CANCELLED;
+        }
+    }
+
+    // Двусвязный список задач одной ячейки; меняется только потоком таймера
+    private static final class Bucket {
+
+        Timeout head;
+        Timeout tail;
+        int size;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+            size++;
+        }
+
+        void expire(long deadline) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    if (timeout.deadline <= deadline) {
+                        timeout.expire();
+                    } else {
+                        // Задача попала в ячейку раньше срока, возвращаем ее в колесо
+                        timeout.timer.place(timeout);
+                    }
+                } else if (timeout.state.get() == CANCELLED) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            size--;
+        }
+    }
+}
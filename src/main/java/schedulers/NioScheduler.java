@@ -0,0 +1,77 @@
+package schedulers;
+
+import components.Scheduler;
+import plugins.Plugins;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Несколько циклов на Selector для сетевого ввода-вывода: тысячи неблокирующих каналов на паре потоков.
+// Обычные задачи тоже выполняются на этих потоках, поэтому блокировать в них нельзя
+public class NioScheduler implements Scheduler {
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final SelectorLoop[] loops;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public NioScheduler() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    public NioScheduler(int loopCount) {
+        if (loopCount <= 0) {
+            throw new IllegalArgumentException("loopCount > 0 required but it was " + loopCount);
+        }
+        this.loops = new SelectorLoop[loopCount];
+        int instance = INSTANCES.incrementAndGet();
+        for (int i = 0; i < loopCount; i++) {
+            loops[i] = new SelectorLoop("nio-" + instance + "-" + i);
+            loops[i].start();
+        }
+    }
+
+    // Цикл для нового канала: каналы раздаются по кругу и дальше обслуживаются одним потоком
+    public SelectorLoop nextLoop() {
+        return loops[Math.floorMod(next.getAndIncrement(), loops.length)];
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        nextLoop().execute(Plugins.onTask("nio", Plugins.onSchedule(task)));
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new SelectorLoopWorker(nextLoop());
+    }
+
+    @Override
+    public void shutdown() {
+        for (SelectorLoop loop : loops) {
+            loop.shutdown();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        try {
+            for (SelectorLoop loop : loops) {
+                loop.awaitTermination(deadline);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class SelectorLoopWorker extends AbstractWorker {
+
+        private final SelectorLoop loop;
+
+        SelectorLoopWorker(SelectorLoop loop) {
+            this.loop = loop;
+        }
+
+        @Override
+        protected void submit(Runnable task) {
+            loop.execute(Plugins.onTask("nio", task));
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+// Цикл событий на Selector: один поток обслуживает задачи и готовность всех зарегистрированных каналов
+public final class SelectorLoop implements Runnable {
+
+    private final Selector selector;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final Thread thread;
+    // Сбрасывается перед select(); wakeup() вызывается только один раз на каждое ожидание
+    private final AtomicBoolean wakenUp = new AtomicBoolean();
+    private volatile boolean shutdown;
+
+    SelectorLoop(String name) {
+        try {
+            this.selector = Selector.open();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.thread = new Thread(this, name);
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    public void execute(Runnable task) {
+        if (shutdown) {
+            throw new RejectedExecutionException("Selector loop " + thread.getName() + " is shut down");
+        }
+        queue.offer(task);
+        if (Thread.currentThread() != thread && wakenUp.compareAndSet(false, true)) {
+            selector.wakeup();
+        }
+    }
+
+    public boolean inLoop() {
+        return Thread.currentThread() == thread;
+    }
+
+    // Вызывается только из потока цикла; handler получает ключ каждый раз, когда канал готов к одной из ops.
+    // У канала один ключ на Selector: чтение и запись одного сокета добавляют свои обработчики к нему,
+    // не перетирая чужой интерес и вложение
+    public SelectionKey register(SelectableChannel channel, int ops, Consumer<SelectionKey> handler)
+            throws IOException {
+        SelectionKey key = channel.keyFor(selector);
+        if (key != null && key.isValid() && key.attachment() instanceof Handlers handlers) {
+            handlers.add(ops, handler);
+            key.interestOps(key.interestOps() | ops);
+            return key;
+        }
+        channel.configureBlocking(false);
+        Handlers handlers = new Handlers();
+        handlers.add(ops, handler);
+        return channel.register(selector, ops, handlers);
+    }
+
+    // Вызывается только из потока цикла: снимает обработчик и его ops, ключ отменяется вместе с последним
+    public void unregister(SelectionKey key, Consumer<SelectionKey> handler) {
+        if (!key.isValid()) {
+            return;
+        }
+        Handlers handlers = (Handlers) key.attachment();
+        int ops = handlers.remove(handler);
+        if (handlers.isEmpty()) {
+            key.cancel();
+        } else {
+            key.interestOps(key.interestOps() & ~ops);
+        }
+    }
+
+    void shutdown() {
+        shutdown = true;
+        selector.wakeup();
+    }
+
+    void awaitTermination(long deadlineNanos) throws InterruptedException {
+        long remaining = deadlineNanos - System.nanoTime();
+        if (remaining > 0) {
+            thread.join(TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+        }
+        if (thread.isAlive()) {
+            queue.clear();
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!shutdown) {
+                runTasks();
+                wakenUp.set(false);
+                if (queue.isEmpty() && !shutdown) {
+                    selector.select();
+                } else {
+                    selector.selectNow();
+                }
+                processSelectedKeys();
+            }
+            runTasks();
+        } catch (IOException e) {
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        } finally {
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = queue.poll()) != null) {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void processSelectedKeys() {
+        Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            SelectionKey key = keys.next();
+            keys.remove();
+            if (!key.isValid()) {
+                continue;
+            }
+            try {
+                ((Consumer<SelectionKey>) key.attachment()).accept(key);
+            } catch (Throwable e) {
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+
+    // Вложение ключа: раздает готовность обработчикам по их ops. Массив заменяется целиком, поэтому обработчик
+    // может сняться прямо во время раздачи
+    private static final class Handlers implements Consumer<SelectionKey> {
+
+        private int[] ops = new int[0];
+        private Consumer<?>[] handlers = new Consumer<?>[0];
+
+        void add(int handlerOps, Consumer<SelectionKey> handler) {
+            int n = handlers.length;
+            ops = Arrays.copyOf(ops, n + 1);
+            handlers = Arrays.copyOf(handlers, n + 1);
+            ops[n] = handlerOps;
+            handlers[n] = handler;
+        }
+
+        // Возвращает ops, которые больше не нужны ни одному из оставшихся обработчиков
+        int remove(Consumer<SelectionKey> handler) {
+            int removed = 0;
+            int remaining = 0;
+            int[] keptOps = new int[ops.length];
+            Consumer<?>[] kept = new Consumer<?>[handlers.length];
+            int n = 0;
+            for (int i = 0; i < handlers.length; i++) {
+                if (handlers[i] == handler) {
+                    removed |= ops[i];
+                } else {
+                    remaining |= ops[i];
+                    keptOps[n] = ops[i];
+                    kept[n++] = handlers[i];
+                }
+            }
+            ops = Arrays.copyOf(keptOps, n);
+            handlers = Arrays.copyOf(kept, n);
+            return removed & ~remaining;
+        }
+
+        boolean isEmpty() {
+            return handlers.length == 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void accept(SelectionKey key) {
+            int[] currentOps = ops;
+            Consumer<?>[] current = handlers;
+            int ready = key.readyOps();
+            for (int i = 0; i < current.length && key.isValid(); i++) {
+                if ((ready & currentOps[i]) != 0) {
+                    ((Consumer<SelectionKey>) current[i]).accept(key);
+                }
+            }
+        }
+    }
+}
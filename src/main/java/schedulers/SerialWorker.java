@@ -0,0 +1,59 @@
+package schedulers;
+
+import components.Scheduler;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Исполнитель поверх любого планировщика: задачи выполняются по одной, в порядке постановки
+public final class SerialWorker extends AbstractWorker implements Runnable {
+
+    private final Scheduler scheduler;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+
+    public SerialWorker(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected void submit(Runnable task) {
+        queue.offer(task);
+        if (wip.getAndIncrement() == 0) {
+            scheduler.execute(this);
+        }
+    }
+
+    @Override
+    protected void onDispose() {
+        queue.clear();
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        for (;;) {
+            for (;;) {
+                if (isDisposed()) {
+                    queue.clear();
+                    return;
+                }
+                Runnable task = queue.poll();
+                if (task == null) {
+                    break;
+                }
+                try {
+                    task.run();
+                } catch (Throwable e) {
+                    Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package schedulers;
 
 import components.Scheduler;
+import plugins.Plugins;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -16,7 +17,7 @@ public class SingleThreadScheduler implements Scheduler {
 
     @Override
     public void execute(Runnable task) {
-        executor.execute(task);
+        executor.execute(Plugins.onTask("single", Plugins.onSchedule(task)));
     }
 
     @Override
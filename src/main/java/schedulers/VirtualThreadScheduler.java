@@ -0,0 +1,68 @@
+package schedulers;
+
+import components.Scheduler;
+import plugins.Plugins;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class VirtualThreadScheduler implements Scheduler {
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public VirtualThreadScheduler() {
+        this("virtual-");
+    }
+
+    public VirtualThreadScheduler(String namePrefix) {
+        this(namePrefix, 0);
+    }
+
+    // maxConcurrency = 0 снимает ограничение на число одновременно выполняемых задач
+    public VirtualThreadScheduler(String namePrefix, int maxConcurrency) {
+        if (maxConcurrency < 0) {
+            throw new IllegalArgumentException("maxConcurrency >= 0 required but it was " + maxConcurrency);
+        }
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix, 0).factory());
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Runnable measured = Plugins.onTask("virtual", Plugins.onSchedule(task));
+        if (permits == null) {
+            executor.execute(measured);
+            return;
+        }
+        executor.execute(() -> {
+            // Ожидание разрешения блокирует только виртуальный поток, поток-носитель свободен
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                measured.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    @Override
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package subjects;
+
+import components.ObservableEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Новому подписчику сразу выдается последнее значение, затем - все последующие
+public final class BehaviorSubject<T> extends Subject<T> {
+
+    private static final Object COMPLETE = new Object();
+
+    // Последний сигнал с порядковым номером: по номеру подписчик отличает уже выданное значение от нового
+    private final AtomicReference<State> state;
+    private long index;
+
+    private BehaviorSubject(Object initial) {
+        this.state = new AtomicReference<>(new State(initial, 0));
+    }
+
+    public static <T> BehaviorSubject<T> create() {
+        return new BehaviorSubject<>(null);
+    }
+
+    public static <T> BehaviorSubject<T> createDefault(T initial) {
+        return new BehaviorSubject<>(initial);
+    }
+
+    // Последнее значение или null, если значений не было или Subject завершен
+    @SuppressWarnings("unchecked")
+    public T getValue() {
+        Object value = state.get().value;
+        return value == COMPLETE || value instanceof ErrorSignal ? null : (T) value;
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> observer) {
+        Inner<T> inner = new Inner<>(observer, this);
+        if (add(inner)) {
+            observer.setCancellable(() -> remove(inner));
+        }
+        inner.emitFirst();
+    }
+
+    @Override
+    public void onNext(T item) {
+        dispatch(item, false);
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        dispatch(new ErrorSignal(e), true);
+    }
+
+    @Override
+    public void onComplete() {
+        dispatch(COMPLETE, true);
+    }
+
+    // Состояние меняется до закрытия подписки: опоздавший подписчик прочитает уже завершающий сигнал
+    @SuppressWarnings("unchecked")
+    private void dispatch(Object value, boolean terminal) {
+        if (isTerminated()) {
+            return;
+        }
+        State current = new State(value, ++index);
+        state.set(current);
+        Object[] subscribers = terminal ? terminate() : subscribers();
+        for (Object subscriber : subscribers) {
+            ((Inner<T>) subscriber).emitNext(current);
+        }
+    }
+
+    private record State(Object value, long index) {
+    }
+
+    private record ErrorSignal(Throwable error) {
+    }
+
+    // Пока подписчик получает первое значение, новые копятся в его очереди; после этого раздача идет напрямую
+    private static final class Inner<T> {
+
+        private final ObservableEmitter<T> downstream;
+        private final BehaviorSubject<T> parent;
+        private volatile boolean fastPath;
+        private boolean next;
+        private boolean emitting;
+        private long firstIndex;
+        private List<Object> queue;
+
+        Inner(ObservableEmitter<T> downstream, BehaviorSubject<T> parent) {
+            this.downstream = downstream;
+            this.parent = parent;
+        }
+
+        void emitFirst() {
+            Object value;
+            synchronized (this) {
+                if (next) {
+                    return;
+                }
+                State current = parent.state.get();
+                firstIndex = current.index;
+                value = current.value;
+                emitting = value != null;
+                next = true;
+            }
+            if (value != null) {
+                deliver(value);
+                emitLoop();
+            }
+        }
+
+        void emitNext(State current) {
+            if (!fastPath) {
+                synchronized (this) {
+                    if (current.index == firstIndex) {
+                        return;
+                    }
+                    if (emitting) {
+                        if (queue == null) {
+                            queue = new ArrayList<>();
+                        }
+                        queue.add(current.value);
+                        return;
+                    }
+                    next = true;
+                }
+                fastPath = true;
+            }
+            deliver(current.value);
+        }
+
+        private void emitLoop() {
+            for (;;) {
+                List<Object> pending;
+                synchronized (this) {
+                    pending = queue;
+                    if (pending == null) {
+                        emitting = false;
+                        return;
+                    }
+                    queue = null;
+                }
+                for (Object value : pending) {
+                    deliver(value);
+                }
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void deliver(Object value) {
+            if (value == COMPLETE) {
+                downstream.onComplete();
+            } else if (value instanceof ErrorSignal signal) {
+                downstream.onError(signal.error);
+            } else {
+                downstream.onNext((T) value);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package subjects;
+
+import components.ObservableEmitter;
+
+// Раздает подписчикам только элементы, пришедшие после подписки
+public final class PublishSubject<T> extends Subject<T> {
+
+    private volatile Throwable error;
+
+    private PublishSubject() {
+    }
+
+    public static <T> PublishSubject<T> create() {
+        return new PublishSubject<>();
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> observer) {
+        if (add(observer)) {
+            observer.setCancellable(() -> remove(observer));
+            return;
+        }
+        Throwable ex = error;
+        if (ex != null) {
+            observer.onError(ex);
+        } else {
+            observer.onComplete();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onNext(T item) {
+        for (Object subscriber : subscribers()) {
+            ((ObservableEmitter<T>) subscriber).onNext(item);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onError(Throwable e) {
+        if (isTerminated()) {
+            return;
+        }
+        error = e;
+        for (Object subscriber : terminate()) {
+            ((ObservableEmitter<T>) subscriber).onError(e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onComplete() {
+        if (isTerminated()) {
+            return;
+        }
+        for (Object subscriber : terminate()) {
+            ((ObservableEmitter<T>) subscriber).onComplete();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package subjects;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Кольцо последних maxSize элементов с временем поступления. Пишет один поток, читают подписчики;
+// читатель, которого писатель обогнал на целое кольцо, узнает об этом по счетчику начатых записей
+final class ReplayRing {
+
+    private final int maxSize;
+    private final long maxAgeNanos;
+    private final int mask;
+    private final AtomicReferenceArray<Object> values;
+    private final AtomicLongArray times;
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+
+    ReplayRing(int maxSize, long maxAgeNanos) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize > 0 required but it was " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.maxAgeNanos = maxAgeNanos;
+        int capacity = Integer.highestOneBit(Math.max(1, maxSize - 1)) << 1;
+        this.mask = capacity - 1;
+        this.values = new AtomicReferenceArray<>(capacity);
+        this.times = new AtomicLongArray(capacity);
+    }
+
+    void add(Object value) {
+        long index = written.get();
+        int offset = (int) index & mask;
+        started.set(index + 1);
+        values.set(offset, value);
+        times.set(offset, System.nanoTime());
+        written.set(index + 1);
+    }
+
+    long written() {
+        return written.get();
+    }
+
+    // Номер первого элемента, который получит новый подписчик: не старше maxAge и не дальше maxSize от конца
+    long start() {
+        long end = written.get();
+        long index = Math.max(0, end - maxSize);
+        if (maxAgeNanos != Long.MAX_VALUE) {
+            long limit = System.nanoTime() - maxAgeNanos;
+            while (index < end && times.get((int) index & mask) - limit < 0) {
+                index++;
+            }
+        }
+        return index;
+    }
+
+    Object get(long index) {
+        return values.get((int) index & mask);
+    }
+
+    // Проверяется после get: если ячейку успели перезаписать, прочитанное значение не годится
+    boolean overrun(long index) {
+        return started.get() - index > mask + 1;
+    }
+
+    long oldest() {
+        return Math.max(0, written.get() - maxSize);
+    }
+}
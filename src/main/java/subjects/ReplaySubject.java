@@ -0,0 +1,129 @@
+package subjects;
+
+import components.ObservableEmitter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Новому подписчику сначала повторяются сохраненные элементы: не больше maxSize и, если задано, не старше maxAge
+public final class ReplaySubject<T> extends Subject<T> {
+
+    private final ReplayRing ring;
+    private volatile boolean done;
+    private Throwable error;
+
+    private ReplaySubject(int maxSize, long maxAgeNanos) {
+        this.ring = new ReplayRing(maxSize, maxAgeNanos);
+    }
+
+    public static <T> ReplaySubject<T> createWithSize(int maxSize) {
+        return new ReplaySubject<>(maxSize, Long.MAX_VALUE);
+    }
+
+    public static <T> ReplaySubject<T> createWithTimeAndSize(long maxAge, TimeUnit unit, int maxSize) {
+        return new ReplaySubject<>(maxSize, unit.toNanos(maxAge));
+    }
+
+    @Override
+    protected void subscribeActual(ObservableEmitter<T> observer) {
+        Inner<T> inner = new Inner<>(observer, ring.start());
+        if (add(inner)) {
+            observer.setCancellable(() -> remove(inner));
+        }
+        replay(inner);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onNext(T item) {
+        if (done) {
+            return;
+        }
+        ring.add(item);
+        for (Object subscriber : subscribers()) {
+            replay((Inner<T>) subscriber);
+        }
+    }
+
+    @Override
+    public void onError(Throwable e) {
+        if (done) {
+            return;
+        }
+        error = e;
+        finish();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) {
+            return;
+        }
+        finish();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void finish() {
+        done = true;
+        for (Object subscriber : terminate()) {
+            replay((Inner<T>) subscriber);
+        }
+    }
+
+    // Выдачу подписчику ведет один поток: либо подписавшийся, пока догоняет, либо поток onNext
+    @SuppressWarnings("unchecked")
+    private void replay(Inner<T> inner) {
+        if (inner.wip.getAndIncrement() != 0) {
+            return;
+        }
+        ObservableEmitter<T> downstream = inner.downstream;
+        int missed = 1;
+        for (;;) {
+            long index = inner.index;
+            for (;;) {
+                if (downstream.isDisposed()) {
+                    return;
+                }
+                boolean d = done;
+                long end = ring.written();
+                if (index == end) {
+                    if (d) {
+                        Throwable ex = error;
+                        if (ex != null) {
+                            downstream.onError(ex);
+                        } else {
+                            downstream.onComplete();
+                        }
+                        return;
+                    }
+                    break;
+                }
+                Object value = ring.get(index);
+                if (ring.overrun(index)) {
+                    // Подписчик отстал больше чем на размер буфера: продолжает с самого старого сохраненного элемента
+                    index = ring.oldest();
+                    continue;
+                }
+                downstream.onNext((T) value);
+                index++;
+            }
+            inner.index = index;
+            missed = inner.wip.addAndGet(-missed);
+            if (missed == 0) {
+                break;
+            }
+        }
+    }
+
+    private static final class Inner<T> {
+
+        final ObservableEmitter<T> downstream;
+        final AtomicInteger wip = new AtomicInteger();
+        long index;
+
+        Inner(ObservableEmitter<T> downstream, long index) {
+            this.downstream = downstream;
+            this.index = index;
+        }
+    }
+}
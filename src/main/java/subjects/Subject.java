@@ -0,0 +1,78 @@
+package subjects;
+
+import components.Observable;
+import components.Observer;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+// Observable и Observer одновременно: сигналы, полученные как Observer, раздаются всем подписчикам
+public abstract class Subject<T> extends Observable<T> implements Observer<T> {
+
+    private static final Object[] EMPTY = new Object[0];
+    private static final Object[] TERMINATED = new Object[0];
+
+    // Массив копируется при подписке и отписке, поэтому раздача в onNext обходится без блокировок
+    private final AtomicReference<Object[]> subscribers = new AtomicReference<>(EMPTY);
+
+    public boolean hasObservers() {
+        return subscribers.get().length != 0;
+    }
+
+    protected boolean isTerminated() {
+        return subscribers.get() == TERMINATED;
+    }
+
+    protected Object[] subscribers() {
+        return subscribers.get();
+    }
+
+    // Возвращает false, если Subject уже завершен
+    protected boolean add(Object subscriber) {
+        for (;;) {
+            Object[] current = subscribers.get();
+            if (current == TERMINATED) {
+                return false;
+            }
+            int length = current.length;
+            Object[] next = new Object[length + 1];
+            System.arraycopy(current, 0, next, 0, length);
+            next[length] = subscriber;
+            if (subscribers.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    protected void remove(Object subscriber) {
+        for (;;) {
+            Object[] current = subscribers.get();
+            int length = current.length;
+            int index = -1;
+            for (int i = 0; i < length; i++) {
+                if (current[i] == subscriber) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            Object[] next;
+            if (length == 1) {
+                next = EMPTY;
+            } else {
+                next = new Object[length - 1];
+                System.arraycopy(current, 0, next, 0, index);
+                System.arraycopy(current, index + 1, next, index, length - index - 1);
+            }
+            if (subscribers.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    // Закрывает подписку новых подписчиков и возвращает тех, кто должен получить завершающий сигнал
+    protected Object[] terminate() {
+        return subscribers.getAndSet(TERMINATED);
+    }
+}
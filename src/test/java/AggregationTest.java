@@ -0,0 +1,114 @@
+import components.Observable;
+import org.junit.jupiter.api.Test;
+import schedulers.SingleThreadScheduler;
+import subjects.PublishSubject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AggregationTest {
+
+    @Test
+    void testScanAndReduce() {
+        List<Integer> sums = new ArrayList<>();
+        List<List<Integer>> collected = new ArrayList<>();
+        List<Integer> max = new ArrayList<>();
+        AtomicBoolean emptyCompleted = new AtomicBoolean(false);
+
+        Observable.range(1, 4).scan(0, Integer::sum)
+                .subscribe(sums::add, error -> fail("Unexpected error"), () -> {
+                });
+        Observable.range(1, 4).reduce(new ArrayList<Integer>(), (list, x) -> {
+                    list.add(x);
+                    return list;
+                })
+                .subscribe(collected::add, error -> fail("Unexpected error"), () -> {
+                });
+        Observable.fromArray(3, 9, 2).reduce(Math::max)
+                .subscribe(max::add, error -> fail("Unexpected error"), () -> {
+                });
+        Observable.<Integer>fromArray().reduce(Math::max)
+                .subscribe(item -> fail("Should not emit"), error -> fail("Unexpected error"),
+                        () -> emptyCompleted.set(true));
+
+        assertEquals(List.of(0, 1, 3, 6, 10), sums);
+        assertEquals(List.of(List.of(1, 2, 3, 4)), collected);
+        assertEquals(List.of(9), max);
+        assertTrue(emptyCompleted.get());
+    }
+
+    @Test
+    void testSlidingMaxMatchesRescan() {
+        Random random = new Random(7);
+        Integer[] values = new Integer[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(1_000_000);
+        }
+        int window = 37;
+        List<Integer> received = new ArrayList<>();
+
+        Observable.fromArray(values)
+                .slidingAggregate(window, x -> x, Math::max)
+                .subscribe(received::add, error -> fail("Unexpected error"), () -> {
+                });
+
+        assertEquals(values.length, received.size());
+        for (int i = 0; i < values.length; i++) {
+            int expected = Integer.MIN_VALUE;
+            for (int j = Math.max(0, i - window + 1); j <= i; j++) {
+                expected = Math.max(expected, values[j]);
+            }
+            assertEquals(expected, received.get(i));
+        }
+    }
+
+    @Test
+    void testSlidingWindowKeepsOrder() {
+        List<String> received = new ArrayList<>();
+
+        // Конкатенация не коммутативна: окно должно склеиваться от старых элементов к новым
+        Observable.fromArray("a", "b", "c", "d", "e")
+                .slidingAggregate(3, x -> x, String::concat)
+                .subscribe(received::add, error -> fail("Unexpected error"), () -> {
+                });
+
+        assertEquals(List.of("a", "ab", "abc", "bcd", "cde"), received);
+    }
+
+    @Test
+    void testTimeWindowExpiresOnScheduler() throws InterruptedException {
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        PublishSubject<Integer> feed = PublishSubject.create();
+        List<Integer> sums = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            feed.slidingAggregate(200, TimeUnit.MILLISECONDS, x -> x, Integer::sum, scheduler)
+                    .subscribe(sums::add, error -> fail("Unexpected error"), () -> {
+                    });
+
+            feed.onNext(5);
+            Thread.sleep(60);
+            feed.onNext(7);
+            assertEquals(List.of(5, 12), sums);
+
+            // Источник молчит: таймер вытесняет 5, и подписчик получает сумму оставшегося окна
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!sums.contains(7) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(List.of(5, 12, 7), sums.subList(0, 3));
+
+            Thread.sleep(250);
+            feed.onNext(1);
+            assertEquals(1, sums.get(sums.size() - 1));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
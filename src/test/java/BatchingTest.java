@@ -0,0 +1,139 @@
+import components.Chunk;
+import components.Observable;
+import operators.ChunkPool;
+import org.junit.jupiter.api.Test;
+import schedulers.ComputationScheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchingTest {
+
+    @Test
+    void testBufferByCount() {
+        List<List<Integer>> received = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean(false);
+
+        Observable.range(1, 7)
+                .buffer(3)
+                .subscribe(chunk -> received.add(List.copyOf(chunk)),
+                        error -> fail("Unexpected error"), () -> completed.set(true));
+
+        assertEquals(List.of(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7)), received);
+        assertTrue(completed.get());
+    }
+
+    @Test
+    void testReleasedChunkIsReused() {
+        List<Integer> sums = new ArrayList<>();
+        List<Chunk<Integer>> released = new ArrayList<>();
+
+        Observable.range(0, 9)
+                .buffer(3)
+                .subscribe(chunk -> {
+                    sums.add(chunk.stream().mapToInt(Integer::intValue).sum());
+                    chunk.release();
+                    released.add(chunk);
+                }, error -> fail("Unexpected error"), () -> {
+                });
+
+        assertEquals(List.of(3, 12, 21), sums);
+        assertThrows(IllegalStateException.class, () -> released.get(0).get(0));
+    }
+
+    @Test
+    void testConcurrentReleaseReturnsArrayOnce() throws Exception {
+        for (int i = 0; i < 500; i++) {
+            ChunkPool pool = new ChunkPool(4);
+            Chunk<Integer> chunk = new Chunk<>(pool.acquire(), 0, pool);
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            Runnable release = () -> {
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                chunk.release();
+            };
+            Thread first = new Thread(release);
+            Thread second = new Thread(release);
+            first.start();
+            second.start();
+            first.join();
+            second.join();
+
+            // Массив попал в пул один раз: следующие две пачки не делят его
+            assertNotSame(pool.acquire(), pool.acquire());
+        }
+    }
+
+    @Test
+    void testTimedBufferFlushesPartialChunk() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler();
+        List<List<Integer>> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+
+        try {
+            Observable.<Integer>create(observer -> {
+                        observer.onNext(1);
+                        observer.onNext(2);
+                    })
+                    .buffer(20, TimeUnit.MILLISECONDS, 100, scheduler)
+                    .subscribe(chunk -> {
+                        received.add(List.copyOf(chunk));
+                        latch.countDown();
+                    }, error -> fail("Unexpected error"), () -> {
+                    });
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertEquals(List.of(1, 2), received.get(0));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testWindowByCount() {
+        List<List<Integer>> windows = new ArrayList<>();
+
+        Observable.range(1, 5)
+                .window(2)
+                .subscribe(window -> {
+                    List<Integer> items = new ArrayList<>();
+                    windows.add(items);
+                    window.subscribe(items::add, error -> fail("Unexpected error"), () -> {
+                    });
+                }, error -> fail("Unexpected error"), () -> {
+                });
+
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), windows);
+    }
+
+    @Test
+    void testTimedWindowCompletesOnTimer() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch windowCompleted = new CountDownLatch(1);
+
+        try {
+            Observable.<Integer>create(observer -> observer.onNext(42))
+                    .window(20, TimeUnit.MILLISECONDS, 100, scheduler)
+                    .subscribe(window -> window.subscribe(received::add,
+                                    error -> fail("Unexpected error"), windowCompleted::countDown),
+                            error -> fail("Unexpected error"), () -> {
+                            });
+
+            assertTrue(windowCompleted.await(1, TimeUnit.SECONDS));
+            assertEquals(List.of(42), received);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+import components.CachePolicy;
+import components.Observable;
+import org.junit.jupiter.api.Test;
+import schedulers.SingleThreadScheduler;
+import subjects.PublishSubject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CacheTest {
+
+    @Test
+    void testCacheRunsSourceOnce() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        List<Integer> first = new ArrayList<>();
+        List<Integer> late = new ArrayList<>();
+        AtomicBoolean lateCompleted = new AtomicBoolean(false);
+
+        Observable<Integer> cached = Observable.<Integer>create(observer -> {
+            subscriptions.incrementAndGet();
+            for (int i = 0; i < 40; i++) {
+                observer.onNext(i);
+            }
+            observer.onComplete();
+        }).cache();
+
+        assertEquals(0, subscriptions.get());
+        cached.subscribe(first::add, error -> fail("Unexpected error"), () -> {
+        });
+        cached.subscribe(late::add, error -> fail("Unexpected error"), () -> lateCompleted.set(true));
+
+        assertEquals(1, subscriptions.get());
+        assertEquals(40, first.size());
+        assertEquals(first, late);
+        assertTrue(lateCompleted.get());
+    }
+
+    @Test
+    void testCachedCoalescesInFlightRequests() {
+        CachePolicy<String, Integer> policy = CachePolicy.lru(10);
+        PublishSubject<Integer> lookup = PublishSubject.create();
+        AtomicInteger calls = new AtomicInteger();
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        List<Integer> third = new ArrayList<>();
+
+        Observable<Integer> user = Observable.cached("user-1", () -> {
+            calls.incrementAndGet();
+            return lookup;
+        }, policy);
+
+        user.subscribe(first::add, error -> fail("Unexpected error"), () -> {
+        });
+        user.subscribe(second::add, error -> fail("Unexpected error"), () -> {
+        });
+        // Оба подписчика ждут один и тот же запрос
+        assertEquals(1, calls.get());
+        lookup.onNext(42);
+        lookup.onComplete();
+        user.subscribe(third::add, error -> fail("Unexpected error"), () -> {
+        });
+
+        assertEquals(1, calls.get());
+        assertEquals(List.of(42), first);
+        assertEquals(List.of(42), second);
+        assertEquals(List.of(42), third);
+        assertEquals(2, policy.hits());
+        assertEquals(1, policy.misses());
+    }
+
+    @Test
+    void testLruEvictionAndFailedResults() {
+        CachePolicy<Integer, String> policy = CachePolicy.lru(2);
+        AtomicInteger calls = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        for (int key : new int[]{1, 2, 1, 3, 1, 2}) {
+            Observable.cached(key, () -> {
+                calls.incrementAndGet();
+                return Observable.fromArray("value-" + key);
+            }, policy).subscribe(item -> {
+            }, error -> fail("Unexpected error"), () -> {
+            });
+        }
+        // 3 вытесняет 2, так как 1 запрашивался позже; затем 2 вытесняет 3
+        assertEquals(4, calls.get());
+        assertEquals(2, policy.hits());
+        assertEquals(2, policy.evictions());
+        assertEquals(2, policy.size());
+
+        for (int i = 0; i < 2; i++) {
+            Observable.<Integer, String>cached(7, () -> {
+                calls.incrementAndGet();
+                return Observable.create(observer -> observer.onError(new IllegalStateException("lookup failed")));
+            }, policy).subscribe(item -> fail("Should not emit"), error -> failures.incrementAndGet(),
+                    () -> fail("Should not complete"));
+        }
+        // Ошибка не кэшируется: второй запрос выполняется заново
+        assertEquals(6, calls.get());
+        assertEquals(2, failures.get());
+    }
+
+    @Test
+    void testTtlExpiry() throws InterruptedException {
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        CachePolicy<String, Long> policy = CachePolicy.lru(10, 50, TimeUnit.MILLISECONDS, scheduler);
+        AtomicInteger calls = new AtomicInteger();
+
+        try {
+            Observable<Long> value = Observable.cached("now",
+                    () -> Observable.fromArray((long) calls.incrementAndGet()), policy);
+            value.subscribe(item -> {
+            }, error -> fail("Unexpected error"), () -> {
+            });
+            value.subscribe(item -> {
+            }, error -> fail("Unexpected error"), () -> {
+            });
+            assertEquals(1, calls.get());
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (policy.size() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, policy.size());
+            assertEquals(1, policy.expirations());
+
+            value.subscribe(item -> assertEquals(2L, item), error -> fail("Unexpected error"), () -> {
+            });
+            assertEquals(2, calls.get());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+import components.Disposable;
+import components.Observable;
+import org.junit.jupiter.api.Test;
+import schedulers.SingleThreadScheduler;
+import subjects.PublishSubject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CombineTest {
+
+    @Test
+    void testConcatKeepsSourceOrder() {
+        List<Integer> concatenated = new ArrayList<>();
+        List<Integer> mapped = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean(false);
+
+        Observable.concat(Observable.range(0, 3), Observable.range(10, 3))
+                .subscribe(concatenated::add, error -> fail("Unexpected error"), () -> completed.set(true));
+        Observable.range(1, 3)
+                .concatMap(x -> Observable.range(x * 100, 2))
+                .subscribe(mapped::add, error -> fail("Unexpected error"), () -> {
+                });
+
+        assertEquals(List.of(0, 1, 2, 10, 11, 12), concatenated);
+        assertEquals(List.of(100, 101, 200, 201, 300, 301), mapped);
+        assertTrue(completed.get());
+    }
+
+    @Test
+    void testMergeAndZipAcrossSchedulers() throws InterruptedException {
+        int count = 10_000;
+        List<SingleThreadScheduler> schedulers = List.of(new SingleThreadScheduler(), new SingleThreadScheduler(),
+                new SingleThreadScheduler());
+        List<Integer> merged = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> zipped = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(2);
+
+        try {
+            Observable.merge(Observable.range(0, count).subscribeOn(schedulers.get(0)),
+                            Observable.range(count, count).subscribeOn(schedulers.get(1)),
+                            Observable.range(2 * count, count).subscribeOn(schedulers.get(2)))
+                    .subscribe(merged::add, error -> fail("Unexpected error"), latch::countDown);
+            // Второй источник короче: zip завершается вместе с ним
+            Observable.zip(Observable.range(0, count).subscribeOn(schedulers.get(0)),
+                            Observable.range(0, count / 2).map(x -> x * 2).subscribeOn(schedulers.get(1)),
+                            (a, b) -> b - a)
+                    .subscribe(zipped::add, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            schedulers.forEach(SingleThreadScheduler::shutdown);
+        }
+
+        assertEquals(3 * count, merged.size());
+        // Порядок внутри каждого источника сохраняется
+        int[] last = {-1, -1, -1};
+        for (int item : merged) {
+            int source = item / count;
+            assertTrue(item > last[source]);
+            last[source] = item;
+        }
+        assertEquals(count / 2, zipped.size());
+        for (int i = 0; i < zipped.size(); i++) {
+            assertEquals(i, zipped.get(i));
+        }
+    }
+
+    @Test
+    void testCombineLatest() {
+        PublishSubject<String> letters = PublishSubject.create();
+        PublishSubject<Integer> numbers = PublishSubject.create();
+        List<String> received = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean(false);
+
+        Observable.combineLatest(letters, numbers, (s, n) -> s + n)
+                .subscribe(received::add, error -> fail("Unexpected error"), () -> completed.set(true));
+
+        letters.onNext("a");
+        letters.onNext("b");
+        numbers.onNext(1);
+        letters.onNext("c");
+        numbers.onNext(2);
+        letters.onComplete();
+        numbers.onNext(3);
+        assertFalse(completed.get());
+        numbers.onComplete();
+
+        assertEquals(List.of("b1", "c1", "c2", "c3"), received);
+        assertTrue(completed.get());
+    }
+
+    @Test
+    void testErrorAndDisposeCancelAllSources() {
+        PublishSubject<Integer> first = PublishSubject.create();
+        PublishSubject<Integer> second = PublishSubject.create();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Observable.zip(first, second, Integer::sum)
+                .subscribe(item -> fail("Should not emit"), error::set, () -> fail("Should not complete"));
+        first.onNext(1);
+        second.onError(new IllegalStateException("boom"));
+
+        assertInstanceOf(IllegalStateException.class, error.get());
+        assertFalse(first.hasObservers());
+
+        // Источник выдал элемент и упал, второй молчит: ошибка не ждет заполнения строки
+        PublishSubject<Integer> failing = PublishSubject.create();
+        PublishSubject<Integer> silent = PublishSubject.create();
+        AtomicReference<Throwable> failFast = new AtomicReference<>();
+        Observable.zip(failing, silent, Integer::sum)
+                .subscribe(item -> fail("Should not emit"), failFast::set, () -> fail("Should not complete"));
+        failing.onNext(1);
+        failing.onError(new IllegalStateException("boom"));
+
+        assertInstanceOf(IllegalStateException.class, failFast.get());
+        assertFalse(silent.hasObservers());
+        silent.onNext(10);
+
+        PublishSubject<Integer> left = PublishSubject.create();
+        PublishSubject<Integer> right = PublishSubject.create();
+        List<Integer> received = new ArrayList<>();
+        Disposable disposable = Observable.combineLatest(List.of(left, right), row -> row.length)
+                .subscribe(received::add, e -> fail("Unexpected error"), () -> fail("Should not complete"));
+        left.onNext(1);
+        right.onNext(2);
+        disposable.dispose();
+        left.onNext(3);
+
+        assertEquals(List.of(2), received);
+        assertFalse(left.hasObservers());
+        assertFalse(right.hasObservers());
+    }
+}
@@ -1,13 +1,17 @@
+import components.Disposable;
 import components.Observable;
 import org.junit.jupiter.api.Test;
 import schedulers.CachedThreadScheduler;
 import schedulers.ComputationScheduler;
 import schedulers.SingleThreadScheduler;
+import schedulers.VirtualThreadScheduler;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -126,4 +130,134 @@ public class ConcurrencyTest {
         assertNotNull(receivedError.get());
         assertEquals(errorMessage, receivedError.get().getMessage());
     }
+
+    @Test
+    void testObserveOnKeepsOrderOnComputationScheduler() throws InterruptedException {
+        int count = 100_000;
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Integer> received = new ArrayList<>();
+        AtomicInteger concurrentCalls = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+        ComputationScheduler scheduler = new ComputationScheduler();
+
+        try {
+            Observable.<Integer>create(observer -> {
+                        for (int i = 0; i < count; i++) {
+                            observer.onNext(i);
+                        }
+                        observer.onComplete();
+                    })
+                    .subscribeOn(new CachedThreadScheduler())
+                    .observeOn(scheduler, 64)
+                    .subscribe(
+                            item -> {
+                                if (concurrentCalls.incrementAndGet() > 1) {
+                                    overlapped.set(true);
+                                }
+                                received.add(item);
+                                concurrentCalls.decrementAndGet();
+                            },
+                            error -> fail("Unexpected error"),
+                            latch::countDown
+                    );
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertFalse(overlapped.get());
+            assertEquals(count, received.size());
+            for (int i = 0; i < count; i++) {
+                assertEquals(i, received.get(i));
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testSubscribeOnVirtualThreadScheduler() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Thread> executionThread = new AtomicReference<>();
+        VirtualThreadScheduler scheduler = new VirtualThreadScheduler("io-");
+
+        try {
+            Observable.create(observer -> {
+                        executionThread.set(Thread.currentThread());
+                        observer.onNext(1);
+                        observer.onComplete();
+                    })
+                    .subscribeOn(scheduler)
+                    .subscribe(item -> {
+                    }, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertTrue(executionThread.get().isVirtual());
+            assertTrue(executionThread.get().getName().startsWith("io-"));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testVirtualThreadSchedulerConcurrencyLimit() throws InterruptedException {
+        int sources = 50;
+        CountDownLatch latch = new CountDownLatch(sources);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        VirtualThreadScheduler scheduler = new VirtualThreadScheduler("limited-", 4);
+
+        try {
+            for (int i = 0; i < sources; i++) {
+                Observable.create(observer -> {
+                            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            try {
+                                Thread.sleep(5);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            running.decrementAndGet();
+                            observer.onComplete();
+                        })
+                        .subscribeOn(scheduler)
+                        .subscribe(item -> {
+                        }, error -> fail("Unexpected error"), latch::countDown);
+            }
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertTrue(maxRunning.get() <= 4);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testDisposeInterruptsBlockingSource() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CachedThreadScheduler io = new CachedThreadScheduler();
+        ComputationScheduler computation = new ComputationScheduler();
+
+        try {
+            Disposable disposable = Observable.<Integer>create(observer -> {
+                        observer.onNext(1);
+                        started.countDown();
+                        try {
+                            Thread.sleep(10_000);
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                        }
+                    })
+                    .subscribeOn(io)
+                    .observeOn(computation)
+                    .subscribe(item -> {
+                    }, error -> fail("Unexpected error"), () -> fail("Should not complete"));
+
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+            disposable.dispose();
+
+            assertTrue(disposable.isDisposed());
+            assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+        } finally {
+            io.shutdown();
+            computation.shutdown();
+        }
+    }
 }
@@ -0,0 +1,110 @@
+import components.Observable;
+import components.Record;
+import org.junit.jupiter.api.Test;
+import schedulers.ComputationScheduler;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DecodeTest {
+
+    // Текст режется на куски по size байтов, в том числе посреди многобайтных символов
+    private static Observable<ByteBuffer> chunks(String text, int size) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        List<ByteBuffer> chunks = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += size) {
+            chunks.add(ByteBuffer.wrap(bytes, i, Math.min(size, bytes.length - i)).slice());
+        }
+        return Observable.fromArray(chunks.toArray(new ByteBuffer[0]));
+    }
+
+    @Test
+    void testNdjsonAcrossChunkBoundaries() {
+        String text = "{\"id\": 1, \"name\": \"Иван\", \"tags\": [\"a\", \"}\"], \"note\": null}\r\n"
+                + "\n"
+                + "{\"id\":2,\"name\":\"quote \\\" and \\u00e9\\n\",\"meta\":{\"ok\":true}}";
+        List<Record> received = new ArrayList<>();
+        AtomicReference<Boolean> completed = new AtomicReference<>(false);
+
+        Observable.decodeNdjson(chunks(text, 3))
+                .subscribe(received::add, error -> fail("Unexpected error: " + error), () -> completed.set(true));
+
+        assertTrue(completed.get());
+        assertEquals(2, received.size());
+        Record first = received.get(0);
+        assertEquals("1", first.get("id"));
+        assertEquals("Иван", first.get("name"));
+        assertEquals("[\"a\", \"}\"]", first.get("tags"));
+        assertNull(first.get("note"));
+        assertEquals(4, first.size());
+        Record second = received.get(1);
+        assertEquals("quote \" and é\n", second.get("name"));
+        assertEquals("{\"ok\":true}", second.get("meta"));
+    }
+
+    @Test
+    void testCsvWithHeaderAndQuotedFields() {
+        String text = "id,name,comment\r\n"
+                + "1,Anna,\"likes, commas\"\r\n"
+                + "2,Борис,\"two\nlines and \"\"quotes\"\"\"\n"
+                + "3,,";
+        List<Record> received = new ArrayList<>();
+
+        Observable.decodeCsv(chunks(text, 4), ',', true)
+                .subscribe(received::add, error -> fail("Unexpected error: " + error), () -> {
+                });
+
+        assertEquals(3, received.size());
+        assertEquals("likes, commas", received.get(0).get("comment"));
+        assertEquals("Борис", received.get(1).get("name"));
+        assertEquals("two\nlines and \"quotes\"", received.get(1).get("comment"));
+        assertEquals("comment", received.get(1).name(2));
+        assertEquals("", received.get(2).get("name"));
+        assertEquals(3, received.get(2).size());
+    }
+
+    @Test
+    void testParallelDecodeKeepsOrder() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4, ComputationScheduler.WorkerSelection.ROUND_ROBIN);
+        StringBuilder text = new StringBuilder("n;square\n");
+        for (int i = 0; i < 5000; i++) {
+            text.append(i).append(';').append(i * i).append('\n');
+        }
+        List<String> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+
+        try {
+            Observable.decodeCsv(chunks(text.toString(), 1000), ';', true, 4, scheduler)
+                    .subscribe(record -> received.add(record.get("square")),
+                            error -> fail("Unexpected error: " + error), latch::countDown);
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(5000, received.size());
+            for (int i = 0; i < 5000; i++) {
+                assertEquals(String.valueOf(i * i), received.get(i));
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testMalformedRecordSignalsError() {
+        List<Record> received = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Observable.decodeNdjson(chunks("{\"a\":1}\n{\"a\" 2}\n{\"a\":3}\n", 5))
+                .subscribe(received::add, error::set, () -> fail("Should not complete"));
+
+        assertEquals(1, received.size());
+        assertInstanceOf(IllegalArgumentException.class, error.get());
+    }
+}
@@ -0,0 +1,201 @@
+import components.Disposable;
+import components.Flowable;
+import components.Observable;
+import components.Observer;
+import components.Subscriber;
+import components.Subscription;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileSourceTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testFromFileEmitsChunks() throws IOException {
+        byte[] content = new byte[10_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path file = Files.write(dir.resolve("data.bin"), content);
+        List<Integer> sizes = new ArrayList<>();
+        ByteArrayOutputStream joined = new ByteArrayOutputStream();
+        AtomicBoolean completed = new AtomicBoolean(false);
+
+        Observable.fromFile(file, 4096)
+                .subscribe(chunk -> {
+                    sizes.add(chunk.remaining());
+                    byte[] bytes = new byte[chunk.remaining()];
+                    chunk.get(bytes);
+                    joined.writeBytes(bytes);
+                }, error -> fail("Unexpected error"), () -> completed.set(true));
+
+        assertEquals(List.of(4096, 4096, 1808), sizes);
+        assertArrayEquals(content, joined.toByteArray());
+        assertTrue(completed.get());
+    }
+
+    @Test
+    void testLinesAcrossChunkBoundaries() throws IOException {
+        // Короткие куски разрезают строки, CRLF и многобайтные символы UTF-8
+        Path file = Files.writeString(dir.resolve("log.txt"), "first line\r\nвторая строка\n\nlast");
+        List<String> fromChannel = new ArrayList<>();
+        List<String> fromMapped = new ArrayList<>();
+
+        Observable.lines(Observable.fromFile(file, 5))
+                .subscribe(fromChannel::add, error -> fail("Unexpected error"), () -> {
+                });
+        Observable.lines(Observable.fromMappedFile(file, 3))
+                .subscribe(fromMapped::add, error -> fail("Unexpected error"), () -> {
+                });
+
+        assertEquals(List.of("first line", "вторая строка", "", "last"), fromChannel);
+        assertEquals(fromChannel, fromMapped);
+    }
+
+    @Test
+    void testDisposeStopsReading() throws IOException {
+        Path file = Files.writeString(dir.resolve("many.txt"), "line\n".repeat(1000), StandardCharsets.UTF_8);
+        List<String> received = new ArrayList<>();
+        AtomicReference<Disposable> disposable = new AtomicReference<>();
+
+        Observable.lines(Observable.fromFile(file, 16))
+                .subscribe(new Observer<>() {
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        disposable.set(d);
+                    }
+
+                    @Override
+                    public void onNext(String item) {
+                        received.add(item);
+                        if (received.size() == 3) {
+                            disposable.get().dispose();
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable e) {
+                        fail("Unexpected error: " + e.getMessage());
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        fail("Should not complete");
+                    }
+                });
+
+        assertEquals(List.of("line", "line", "line"), received);
+    }
+
+    @Test
+    void testMissingFileSignalsError() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Observable.fromFile(dir.resolve("missing.txt"), 1024)
+                .subscribe(chunk -> fail("Should not emit"), error::set, () -> fail("Should not complete"));
+
+        assertInstanceOf(NoSuchFileException.class, error.get().getCause());
+    }
+
+    @Test
+    void testFlowableReadsOnDemand() throws IOException {
+        Path file = Files.write(dir.resolve("demand.bin"), new byte[1000]);
+        List<ByteBuffer> received = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        Flowable.fromFile(file, 100).subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                fail("Unexpected error: " + e.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Should not complete");
+            }
+        });
+
+        assertTrue(received.isEmpty());
+        subscription.get().request(2);
+        assertEquals(2, received.size());
+        subscription.get().cancel();
+        subscription.get().request(5);
+        assertEquals(2, received.size());
+    }
+
+    @Test
+    void testCancelDuringReadSuppressesError() {
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        List<Integer> received = new ArrayList<>();
+        // Отмена закрывает ресурс, пока идет чтение: next() падает, как FileChannel с AsynchronousCloseException
+        Iterable<Integer> source = () -> new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                if (next == 2) {
+                    subscription.get().cancel();
+                    throw new IllegalStateException("closed");
+                }
+                return next++;
+            }
+        };
+
+        Flowable.fromIterable(source).subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription.set(s);
+                s.request(10);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable e) {
+                fail("Unexpected error after cancel: " + e.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Should not complete");
+            }
+        });
+
+        assertEquals(List.of(0, 1), received);
+    }
+}
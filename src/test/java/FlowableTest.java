@@ -0,0 +1,229 @@
+import components.BackpressureStrategy;
+import components.Flowable;
+import components.FlowableEmitter;
+import components.MissingBackpressureException;
+import components.Observable;
+import components.Subscriber;
+import components.Subscription;
+import org.junit.jupiter.api.Test;
+import schedulers.ComputationScheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlowableTest {
+
+    @Test
+    void testRequestLimitsEmission() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        AtomicBoolean completed = new AtomicBoolean(false);
+
+        Flowable.range(1, 10).subscribe(new TestSubscriber<>(received, subscription, completed));
+
+        assertTrue(received.isEmpty());
+        subscription.get().request(3);
+        assertEquals(List.of(1, 2, 3), received);
+        subscription.get().request(7);
+        assertEquals(10, received.size());
+        assertTrue(completed.get());
+    }
+
+    @Test
+    void testMapAndFilterRespectDemand() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+
+        Flowable.range(1, 100)
+                .filter(x -> x % 2 == 0)
+                .map(x -> x * 10)
+                .subscribe(new TestSubscriber<>(received, subscription, new AtomicBoolean()));
+
+        subscription.get().request(2);
+        assertEquals(List.of(20, 40), received);
+    }
+
+    @Test
+    void testDropStrategy() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        AtomicReference<FlowableEmitter<Integer>> emitter = new AtomicReference<>();
+
+        Flowable.<Integer>create(emitter::set, BackpressureStrategy.DROP)
+                .subscribe(new TestSubscriber<>(received, subscription, new AtomicBoolean()));
+
+        emitter.get().onNext(1);
+        subscription.get().request(1);
+        emitter.get().onNext(2);
+        emitter.get().onNext(3);
+
+        assertEquals(List.of(2), received);
+    }
+
+    @Test
+    void testLatestStrategy() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        AtomicBoolean completed = new AtomicBoolean(false);
+
+        Flowable.<Integer>create(emitter -> {
+                    for (int i = 1; i <= 5; i++) {
+                        emitter.onNext(i);
+                    }
+                    emitter.onComplete();
+                }, BackpressureStrategy.LATEST)
+                .subscribe(new TestSubscriber<>(received, subscription, completed));
+
+        assertFalse(completed.get());
+        subscription.get().request(10);
+        assertEquals(List.of(5), received);
+        assertTrue(completed.get());
+    }
+
+    @Test
+    void testBoundedBufferOverflow() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Observable.<Integer>create(observer -> {
+                    for (int i = 0; i < 10; i++) {
+                        observer.onNext(i);
+                    }
+                    observer.onComplete();
+                })
+                .toFlowable(BackpressureStrategy.BUFFER, 4)
+                .subscribe(new Subscriber<>() {
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        fail("No demand was signalled");
+                    }
+
+                    @Override
+                    public void onError(Throwable e) {
+                        error.set(e);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        fail("Should not complete");
+                    }
+                });
+
+        assertInstanceOf(MissingBackpressureException.class, error.get());
+    }
+
+    @Test
+    void testDefaultBufferIsBounded() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Integer> received = new ArrayList<>();
+
+        Observable.range(0, Flowable.bufferSize() + 1)
+                .toFlowable(BackpressureStrategy.BUFFER)
+                .subscribe(new Subscriber<>() {
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        received.add(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable e) {
+                        error.set(e);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        fail("Should not complete");
+                    }
+                });
+
+        assertInstanceOf(MissingBackpressureException.class, error.get());
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void testObserveOnKeepsOrder() throws InterruptedException {
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+        ComputationScheduler scheduler = new ComputationScheduler();
+
+        try {
+            Flowable.range(0, 1000)
+                    .observeOn(scheduler, 16)
+                    .subscribe(received::add, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertEquals(1000, received.size());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, received.get(i));
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testFlatMapRespectsDemand() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        AtomicBoolean completed = new AtomicBoolean(false);
+
+        Flowable.range(1, 3)
+                .flatMap(x -> Flowable.range(x * 10, 2), 2)
+                .subscribe(new TestSubscriber<>(received, subscription, completed));
+
+        subscription.get().request(3);
+        assertEquals(3, received.size());
+        assertFalse(completed.get());
+
+        subscription.get().request(Long.MAX_VALUE);
+        assertEquals(List.of(10, 11, 20, 21, 30, 31), received.stream().sorted().toList());
+        assertTrue(completed.get());
+    }
+
+    private static final class TestSubscriber<T> implements Subscriber<T> {
+
+        private final List<T> received;
+        private final AtomicReference<Subscription> subscription;
+        private final AtomicBoolean completed;
+
+        TestSubscriber(List<T> received, AtomicReference<Subscription> subscription, AtomicBoolean completed) {
+            this.received = received;
+            this.subscription = subscription;
+            this.completed = completed;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription.set(subscription);
+        }
+
+        @Override
+        public void onNext(T item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            fail("Unexpected error: " + e);
+        }
+
+        @Override
+        public void onComplete() {
+            completed.set(true);
+        }
+    }
+}
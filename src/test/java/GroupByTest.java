@@ -0,0 +1,145 @@
+import components.Disposable;
+import components.GroupedObservable;
+import components.MissingBackpressureException;
+import components.Observable;
+import org.junit.jupiter.api.Test;
+import schedulers.ComputationScheduler;
+import subjects.PublishSubject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GroupByTest {
+
+    @Test
+    void testGroupsShareOneSubscription() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        Map<Integer, List<Integer>> groups = new ConcurrentHashMap<>();
+        AtomicInteger completedGroups = new AtomicInteger();
+
+        Observable.<Integer>create(observer -> {
+                    subscriptions.incrementAndGet();
+                    for (int i = 0; i < 30; i++) {
+                        observer.onNext(i);
+                    }
+                    observer.onComplete();
+                })
+                .groupBy(x -> x % 3)
+                .subscribe(group -> group.subscribe(
+                        item -> groups.computeIfAbsent(group.getKey(), k -> new ArrayList<>()).add(item),
+                        error -> fail("Unexpected error"), completedGroups::incrementAndGet),
+                        error -> fail("Unexpected error"), () -> {
+                        });
+
+        assertEquals(1, subscriptions.get());
+        assertEquals(3, groups.size());
+        assertEquals(List.of(1, 4, 7, 10, 13, 16, 19, 22, 25, 28), groups.get(1));
+        assertEquals(3, completedGroups.get());
+    }
+
+    @Test
+    void testGroupsRunOnComputationWorkers() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4, ComputationScheduler.WorkerSelection.ROUND_ROBIN);
+        Map<Integer, List<Integer>> groups = new ConcurrentHashMap<>();
+        Map<Integer, String> threads = new ConcurrentHashMap<>();
+        CountDownLatch completed = new CountDownLatch(8);
+
+        try {
+            Observable.range(0, 8000)
+                    .groupBy(x -> x % 8, 8000, 1, TimeUnit.MINUTES, scheduler)
+                    .subscribe(group -> group.subscribe(item -> {
+                        groups.computeIfAbsent(group.getKey(), k -> Collections.synchronizedList(new ArrayList<>()))
+                                .add(item);
+                        // Группа выдается строго по очереди одним исполнителем
+                        String previous = threads.putIfAbsent(group.getKey(), Thread.currentThread().getName());
+                        assertTrue(previous == null || previous.equals(Thread.currentThread().getName()));
+                    }, error -> fail("Unexpected error"), completed::countDown),
+                            error -> fail("Unexpected error"), () -> {
+                            });
+
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+            for (int key = 0; key < 8; key++) {
+                List<Integer> items = groups.get(key);
+                assertEquals(1000, items.size());
+                for (int i = 0; i < items.size(); i++) {
+                    assertEquals(key + i * 8, items.get(i));
+                }
+            }
+            assertTrue(threads.values().stream().distinct().count() > 1);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testIdleGroupIsEvicted() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(1, ComputationScheduler.WorkerSelection.ROUND_ROBIN);
+        PublishSubject<String> events = PublishSubject.create();
+        List<String> keys = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch evicted = new CountDownLatch(1);
+        CountDownLatch reopened = new CountDownLatch(1);
+
+        try {
+            events.groupBy(event -> event.substring(0, 1), 16, 50, TimeUnit.MILLISECONDS, scheduler)
+                    .subscribe(group -> {
+                        keys.add(group.getKey());
+                        group.subscribe(item -> {
+                            if (item.equals("a2")) {
+                                reopened.countDown();
+                            }
+                        }, error -> fail("Unexpected error"), evicted::countDown);
+                    }, error -> fail("Unexpected error"), () -> {
+                    });
+
+            events.onNext("a1");
+            assertTrue(evicted.await(5, TimeUnit.SECONDS));
+            events.onNext("a2");
+            assertTrue(reopened.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("a", "a"), keys);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testBoundedQueueAndCancelledGroup() {
+        PublishSubject<Integer> source = PublishSubject.create();
+        List<GroupedObservable<Integer, Integer>> groups = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Integer> received = new ArrayList<>();
+
+        source.groupBy(x -> x % 2)
+                .subscribe(groups::add, e -> fail("Unexpected error"), () -> {
+                });
+
+        // Группа нечетных без подписчика переполняет очередь и завершается ошибкой
+        for (int i = 0; i < 1000; i++) {
+            source.onNext(i * 2 + 1);
+        }
+        groups.get(0).subscribe(item -> {
+        }, error::set, () -> fail("Should not complete"));
+        assertInstanceOf(MissingBackpressureException.class, error.get());
+
+        // Отписка от группы закрывает ее; следующий элемент того же ключа открывает новую группу
+        source.onNext(0);
+        GroupedObservable<Integer, Integer> even = groups.stream().filter(g -> g.getKey() == 0).findFirst().get();
+        Disposable disposable = even.subscribe(received::add, e -> fail("Unexpected error"), () -> {
+        });
+        disposable.dispose();
+        source.onNext(2);
+
+        assertEquals(List.of(0), received);
+        assertEquals(0, groups.get(groups.size() - 1).getKey());
+        assertNotSame(even, groups.get(groups.size() - 1));
+        assertTrue(source.hasObservers());
+    }
+}
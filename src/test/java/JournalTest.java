@@ -0,0 +1,123 @@
+import components.Observable;
+import components.Serializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JournalTest {
+
+    @TempDir
+    Path dir;
+
+    private List<String> replay(long offset) {
+        List<String> items = new ArrayList<>();
+        Observable.fromJournal(dir, offset, Serializer.utf8())
+                .subscribe(items::add, error -> fail("Unexpected error: " + error), () -> {
+                });
+        return items;
+    }
+
+    private void write(int from, int to, int segmentSize, int maxSegments) {
+        Observable.range(from, to - from)
+                .map(i -> "event-" + i)
+                .journal(dir, Serializer.utf8(), segmentSize, maxSegments, 16)
+                .subscribe(item -> {
+                }, error -> fail("Unexpected error: " + error), () -> {
+                });
+    }
+
+    private static List<String> events(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> "event-" + i).toList();
+    }
+
+    @Test
+    void testJournalPassesItemsAndReplaysFromOffset() {
+        List<String> passed = new ArrayList<>();
+
+        Observable.range(0, 1000)
+                .map(i -> "event-" + i)
+                .journal(dir, Serializer.utf8())
+                .subscribe(passed::add, error -> fail("Unexpected error: " + error), () -> {
+                });
+
+        assertEquals(events(0, 1000), passed);
+        assertEquals(events(0, 1000), replay(0));
+        assertEquals(events(500, 1000), replay(500));
+        assertEquals(List.of(), replay(1000));
+    }
+
+    @Test
+    void testWriterContinuesAfterRestart() {
+        write(0, 10, 4096, 4);
+        write(10, 15, 4096, 4);
+
+        assertEquals(events(0, 15), replay(0));
+        assertEquals(events(12, 15), replay(12));
+    }
+
+    @Test
+    void testSegmentsRollAndRetentionBoundsDisk() throws IOException {
+        // Запись "event-N" занимает 8 байт заголовка и до 9 байт данных: в сегмент помещается 15 записей
+        write(0, 200, 256, 3);
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(3, files.count());
+        }
+        List<String> retained = replay(0);
+        assertFalse(retained.isEmpty());
+        assertTrue(retained.size() <= 45);
+        assertEquals(events(200 - retained.size(), 200), retained);
+        // Удаленное начало пропускается: повтор идет с самой старой сохраненной записи
+        assertEquals(retained, replay(5));
+    }
+
+    @Test
+    void testTornRecordIsOverwritten() throws IOException {
+        write(0, 3, 4096, 4);
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        // Порча данных последней записи, как при сбое до fsync: контрольная сумма не сходится
+        int last = 2 * (8 + "event-0".length());
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), last + 8);
+        }
+
+        assertEquals(events(0, 2), replay(0));
+
+        write(2, 4, 4096, 4);
+        assertEquals(events(0, 4), replay(0));
+    }
+
+    @Test
+    void testRecordsAfterCorruptionDoNotComeBack() throws IOException {
+        write(0, 5, 4096, 4);
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        // Обнуленный заголовок третьей записи: четвертая и пятая остаются целыми, но за концом журнала
+        int third = 2 * (8 + "event-0".length());
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[8]), third);
+        }
+
+        write(2, 3, 4096, 4);
+        assertEquals(events(0, 3), replay(0));
+        write(3, 4, 4096, 4);
+        assertEquals(events(0, 4), replay(0));
+    }
+}
@@ -0,0 +1,190 @@
+import components.Disposable;
+import components.Observable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import schedulers.NioScheduler;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NioTest {
+
+    private ServerSocketChannel server;
+    private NioScheduler scheduler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        scheduler = new NioScheduler(2);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        scheduler.shutdown();
+        server.close();
+    }
+
+    @Test
+    void testSocketSourceReadsUntilEof() throws Exception {
+        List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch completed = new CountDownLatch(1);
+
+        try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+             SocketChannel accepted = server.accept()) {
+            Observable.lines(Observable.fromSocket(accepted, 8, scheduler))
+                    .subscribe(lines::add, error -> fail("Unexpected error"), completed::countDown);
+
+            client.write(ByteBuffer.wrap("hello\nreactive world\n".getBytes(StandardCharsets.UTF_8)));
+            client.shutdownOutput();
+
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("hello", "reactive world"), lines);
+        }
+    }
+
+    @Test
+    void testWriteToSendsEverything() throws Exception {
+        int chunks = 256;
+        int chunkSize = 16 * 1024;
+        AtomicLong total = new AtomicLong();
+        CountDownLatch completed = new CountDownLatch(1);
+
+        try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+             SocketChannel accepted = server.accept()) {
+            // 4 МБ не помещаются в буфер сокета: запись продолжается по готовности OP_WRITE
+            Observable<ByteBuffer> buffers = Observable.range(0, chunks)
+                    .map(i -> {
+                        ByteBuffer buffer = ByteBuffer.allocate(chunkSize);
+                        while (buffer.hasRemaining()) {
+                            buffer.put((byte) (int) i);
+                        }
+                        return buffer.flip();
+                    });
+            Observable.writeTo(buffers, client, scheduler)
+                    .subscribe(total::set, error -> fail("Unexpected error"), completed::countDown);
+
+            ByteBuffer received = ByteBuffer.allocate(chunks * chunkSize);
+            while (received.hasRemaining()) {
+                assertTrue(accepted.read(received) >= 0);
+            }
+
+            assertTrue(completed.await(5, TimeUnit.SECONDS));
+            assertEquals((long) chunks * chunkSize, total.get());
+            for (int i = 0; i < chunks; i++) {
+                assertEquals((byte) i, received.get(i * chunkSize));
+                assertEquals((byte) i, received.get((i + 1) * chunkSize - 1));
+            }
+        }
+    }
+
+    @Test
+    void testManyConnectionsOnFewThreads() throws Exception {
+        int connections = 200;
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch completed = new CountDownLatch(connections);
+        List<SocketChannel> channels = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < connections; i++) {
+                SocketChannel client = SocketChannel.open(server.getLocalAddress());
+                SocketChannel accepted = server.accept();
+                channels.add(client);
+                channels.add(accepted);
+                Observable.lines(Observable.fromSocket(accepted, 64, scheduler))
+                        .subscribe(line -> {
+                            threads.add(Thread.currentThread().getName());
+                            messages.add(line);
+                        }, error -> fail("Unexpected error"), completed::countDown);
+            }
+            for (int i = 0; i < connections; i++) {
+                SocketChannel client = channels.get(i * 2);
+                client.write(ByteBuffer.wrap(("client-" + i + "\n").getBytes(StandardCharsets.UTF_8)));
+                client.shutdownOutput();
+            }
+
+            assertTrue(completed.await(10, TimeUnit.SECONDS));
+            assertEquals(connections, messages.size());
+            assertTrue(threads.size() <= 2);
+        } finally {
+            for (SocketChannel channel : channels) {
+                channel.close();
+            }
+        }
+    }
+
+    @Test
+    void testDisposeClosesChannel() throws Exception {
+        try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+             SocketChannel accepted = server.accept()) {
+            Disposable disposable = Observable.fromSocket(accepted, 64, scheduler)
+                    .subscribe(item -> fail("Should not emit"), error -> fail("Unexpected error"),
+                            () -> fail("Should not complete"));
+
+            disposable.dispose();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (accepted.isOpen() && System.nanoTime() < deadline) {
+                Thread.yield();
+            }
+            assertFalse(accepted.isOpen());
+            // Сервер закрыл соединение: клиент читает конец потока
+            client.configureBlocking(true);
+            assertEquals(-1, client.read(ByteBuffer.allocate(1)));
+        }
+    }
+
+    @Test
+    void testReadAndWriteSameChannel() throws Exception {
+        // Один цикл: чтение и запись одного сокета делят ключ в одном Selector
+        NioScheduler single = new NioScheduler(1);
+        int chunks = 256;
+        int chunkSize = 16 * 1024;
+        List<String> lines = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong total = new AtomicLong();
+        CountDownLatch readDone = new CountDownLatch(1);
+        CountDownLatch writeDone = new CountDownLatch(1);
+
+        try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+             SocketChannel accepted = server.accept()) {
+            Observable.lines(Observable.fromSocket(accepted, 64, single))
+                    .subscribe(lines::add, error -> fail("Unexpected error"), readDone::countDown);
+            Observable<ByteBuffer> buffers = Observable.range(0, chunks)
+                    .map(i -> ByteBuffer.allocate(chunkSize));
+            Observable.writeTo(buffers, accepted, single)
+                    .subscribe(total::set, error -> fail("Unexpected error"), writeDone::countDown);
+
+            // Запись успевает заполнить буфер сокета и ждет OP_WRITE, пока клиент пишет свое
+            Thread.sleep(100);
+            client.write(ByteBuffer.wrap("ping\n".getBytes(StandardCharsets.UTF_8)));
+            client.shutdownOutput();
+            ByteBuffer received = ByteBuffer.allocate(chunks * chunkSize);
+            while (received.hasRemaining()) {
+                assertTrue(client.read(received) >= 0);
+            }
+
+            assertTrue(writeDone.await(5, TimeUnit.SECONDS));
+            assertTrue(readDone.await(5, TimeUnit.SECONDS));
+            assertEquals((long) chunks * chunkSize, total.get());
+            assertEquals(List.of("ping"), lines);
+        } finally {
+            single.shutdown();
+        }
+    }
+}
@@ -1,9 +1,22 @@
+import components.BackpressureStrategy;
+import components.ConcurrencyLimiter;
+import components.Disposable;
+import components.MissingBackpressureException;
 import components.Observable;
+import components.ObservableEmitter;
+import components.Observer;
 import org.junit.jupiter.api.Test;
+import subjects.PublishSubject;
+import schedulers.CachedThreadScheduler;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -127,4 +140,255 @@ public class ObservableTest {
         assertEquals(20, received.get(2));
         assertEquals(40, received.get(3));
     }
+
+    @Test
+    void testFlatMapSerializesAsyncInners() throws InterruptedException {
+        CachedThreadScheduler scheduler = new CachedThreadScheduler();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger received = new AtomicInteger();
+        AtomicInteger concurrentCalls = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+
+        try {
+            Observable.range(0, 50)
+                    .flatMap(x -> Observable.range(0, 200).subscribeOn(scheduler))
+                    .subscribe(
+                            item -> {
+                                if (concurrentCalls.incrementAndGet() > 1) {
+                                    overlapped.set(true);
+                                }
+                                received.incrementAndGet();
+                                concurrentCalls.decrementAndGet();
+                            },
+                            error -> fail("Unexpected error"),
+                            latch::countDown
+                    );
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertFalse(overlapped.get());
+            assertEquals(50 * 200, received.get());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testFlatMapMaxConcurrency() throws InterruptedException {
+        CachedThreadScheduler scheduler = new CachedThreadScheduler();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            Observable.range(0, 20)
+                    .flatMap(x -> Observable.<Integer>create(observer -> {
+                        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                        try {
+                            Thread.sleep(5);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        active.decrementAndGet();
+                        observer.onNext(x);
+                        observer.onComplete();
+                    }).subscribeOn(scheduler), 3)
+                    .subscribe(received::add, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertTrue(maxActive.get() <= 3);
+            assertEquals(20, received.size());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testConcurrencyLimiterAdapts() {
+        ConcurrencyLimiter aimd = ConcurrencyLimiter.aimd(4, 10, 10, TimeUnit.MILLISECONDS);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(aimd.tryAcquire());
+        }
+        assertFalse(aimd.tryAcquire());
+        // Быстрые завершения при полной загрузке поднимают предел, медленные снижают
+        for (int i = 0; i < 3; i++) {
+            aimd.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+            assertTrue(aimd.tryAcquire());
+        }
+        assertEquals(7, aimd.limit());
+        for (int i = 0; i < 5; i++) {
+            aimd.release(TimeUnit.MILLISECONDS.toNanos(50), false);
+            aimd.tryAcquire();
+        }
+        assertTrue(aimd.limit() < 7);
+
+        ConcurrencyLimiter gradient = ConcurrencyLimiter.gradient(20, 100);
+        for (int i = 0; i < 50; i++) {
+            gradient.tryAcquire();
+            gradient.release(TimeUnit.MILLISECONDS.toNanos(1), false);
+        }
+        int grown = gradient.limit();
+        assertTrue(grown > 20);
+        for (int i = 0; i < 50; i++) {
+            gradient.tryAcquire();
+            gradient.release(TimeUnit.MILLISECONDS.toNanos(20), false);
+        }
+        assertTrue(gradient.limit() < grown);
+        assertEquals(0, gradient.inFlight());
+    }
+
+    @Test
+    void testAdaptiveFlatMapBacksOffUnderLatency() throws InterruptedException {
+        CachedThreadScheduler scheduler = new CachedThreadScheduler();
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd(8, 16, 5, TimeUnit.MILLISECONDS);
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            // Сервис замедляется с ростом числа одновременных запросов: 1 мс на каждый
+            Observable.range(0, 100)
+                    .flatMap(x -> Observable.<Integer>create(observer -> {
+                        int current = active.incrementAndGet();
+                        maxActive.accumulateAndGet(current, Math::max);
+                        try {
+                            Thread.sleep(current);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        active.decrementAndGet();
+                        observer.onNext(x);
+                        observer.onComplete();
+                    }).subscribeOn(scheduler), limiter, BackpressureStrategy.BUFFER, 100)
+                    .subscribe(received::add, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals(100, received.size());
+            assertTrue(maxActive.get() <= 16);
+            assertTrue(limiter.limit() < 8);
+            assertEquals(0, limiter.inFlight());
+            assertEquals(0, limiter.queued());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testAdaptiveFlatMapOverflowPolicies() {
+        ConcurrencyLimiter limiter = ConcurrencyLimiter.aimd(2, 2, 1, TimeUnit.SECONDS);
+        PublishSubject<Integer> source = PublishSubject.create();
+        PublishSubject<Integer> slow = PublishSubject.create();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Disposable dropping = source.flatMap(x -> slow, limiter, BackpressureStrategy.DROP, 3)
+                .subscribe(item -> {
+                }, e -> fail("Unexpected error"), () -> {
+                });
+        for (int i = 0; i < 10; i++) {
+            source.onNext(i);
+        }
+        assertEquals(2, limiter.inFlight());
+        assertEquals(3, limiter.queued());
+        assertEquals(5, limiter.rejected());
+
+        // Отписка освобождает места и очередь
+        dropping.dispose();
+        assertEquals(0, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+
+        source.flatMap(x -> slow, limiter, BackpressureStrategy.BUFFER, 3)
+                .subscribe(item -> {
+                }, error::set, () -> fail("Should not complete"));
+        for (int i = 0; i < 6; i++) {
+            source.onNext(i);
+        }
+        assertInstanceOf(MissingBackpressureException.class, error.get());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    void testFlatMapInnerError() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Observable.range(0, 5)
+                .flatMap(x -> x == 2
+                        ? Observable.<Integer>create(observer -> observer.onError(new IllegalStateException("inner")))
+                        : Observable.fromArray(x))
+                .subscribe(item -> {
+                }, error::set, () -> fail("Should not complete"));
+
+        assertEquals("inner", error.get().getMessage());
+    }
+
+    @Test
+    void testDisposeStopsSynchronousSource() {
+        List<Integer> received = new ArrayList<>();
+        AtomicInteger emitted = new AtomicInteger();
+        AtomicBoolean cleanedUp = new AtomicBoolean(false);
+
+        Observable.<Integer>create(observer -> {
+                    observer.setCancellable(() -> cleanedUp.set(true));
+                    while (!observer.isDisposed()) {
+                        observer.onNext(emitted.incrementAndGet());
+                    }
+                })
+                .map(x -> x * 10)
+                .filter(x -> x > 0)
+                .subscribe(new Observer<>() {
+                    private Disposable disposable;
+
+                    @Override
+                    public void onSubscribe(Disposable d) {
+                        disposable = d;
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        received.add(item);
+                        if (received.size() == 5) {
+                            disposable.dispose();
+                        }
+                    }
+
+                    @Override
+                    public void onError(Throwable e) {
+                        fail("Unexpected error: " + e.getMessage());
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        fail("Should not complete");
+                    }
+                });
+
+        assertEquals(List.of(10, 20, 30, 40, 50), received);
+        assertEquals(5, emitted.get());
+        assertTrue(cleanedUp.get());
+    }
+
+    @Test
+    void testDisposeReleasesEveryResourceOnce() {
+        AtomicInteger released = new AtomicInteger();
+        AtomicBoolean lateReleased = new AtomicBoolean(false);
+        AtomicReference<ObservableEmitter<Integer>> emitter = new AtomicReference<>();
+
+        Disposable disposable = Observable.<Integer>create(observer -> {
+                    emitter.set(observer);
+                    observer.setCancellable(released::incrementAndGet);
+                    observer.setCancellable(released::incrementAndGet);
+                    observer.setCancellable(released::incrementAndGet);
+                })
+                .map(x -> x + 1)
+                .subscribe(item -> fail("Should not emit"), error -> fail("Unexpected error"), () -> {
+                });
+
+        disposable.dispose();
+        disposable.dispose();
+        emitter.get().setCancellable(() -> lateReleased.set(true));
+
+        assertEquals(3, released.get());
+        assertTrue(lateReleased.get());
+        assertTrue(emitter.get().isDisposed());
+    }
 }
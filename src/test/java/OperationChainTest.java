@@ -3,8 +3,11 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class OperationChainTest {
@@ -33,4 +36,70 @@ public class OperationChainTest {
         assertEquals(4, received.get(0));  // 2 * 2
         assertEquals(8, received.get(1));  // 4 * 2
     }
+
+    @Test
+    void testLongFusedChain() {
+        List<Integer> received = new ArrayList<>();
+
+        Observable<Integer> chain = Observable.range(1, 20);
+        for (int i = 0; i < 5; i++) {
+            chain = chain.map(x -> x + 1).filter(x -> x % 2 == 0);
+        }
+        chain.subscribe(received::add, error -> fail("Unexpected error"), () -> {
+        });
+
+        List<Integer> expected = new ArrayList<>();
+        for (int x = 1; x <= 20; x++) {
+            int value = x;
+            boolean passed = true;
+            for (int i = 0; i < 5 && passed; i++) {
+                value++;
+                passed = value % 2 == 0;
+            }
+            if (passed) {
+                expected.add(value);
+            }
+        }
+        assertEquals(expected, received);
+    }
+
+    @Test
+    void testFusedChainOverPushSource() {
+        List<String> received = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean(false);
+
+        Observable.<Integer>create(observer -> {
+                    for (int i = 1; i <= 6; i++) {
+                        observer.onNext(i);
+                    }
+                    observer.onComplete();
+                })
+                .filter(x -> x > 2)
+                .map(x -> x * 10)
+                .filter(x -> x != 40)
+                .map(x -> "v" + x)
+                .subscribe(received::add, error -> fail("Unexpected error"), () -> completed.set(true));
+
+        assertEquals(List.of("v30", "v50", "v60"), received);
+        assertTrue(completed.get());
+    }
+
+    @Test
+    void testErrorInFusedStageStopsEmission() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        Observable.fromArray(1, 2, 3, 4)
+                .map(x -> {
+                    if (x == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return x;
+                })
+                .filter(x -> x > 0)
+                .subscribe(received::add, error::set, () -> fail("Should not complete"));
+
+        assertEquals(List.of(1, 2), received);
+        assertEquals("boom", error.get().getMessage());
+    }
 }
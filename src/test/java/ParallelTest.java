@@ -0,0 +1,119 @@
+import components.Observable;
+import org.junit.jupiter.api.Test;
+import schedulers.ComputationScheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParallelTest {
+
+    @Test
+    void testSequentialUsesAllRails() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4, ComputationScheduler.WorkerSelection.ROUND_ROBIN);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        try {
+            Observable.range(0, 1000)
+                    .parallel(4)
+                    .runOn(scheduler)
+                    .map(x -> {
+                        threads.add(Thread.currentThread().getName());
+                        return x * 2;
+                    })
+                    .sequential()
+                    .subscribe(received::add, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(1000, received.size());
+            assertEquals(IntStream.range(0, 1000).map(x -> x * 2).boxed().collect(Collectors.toSet()),
+                    Set.copyOf(received));
+            assertEquals(4, threads.size());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testOrderedKeepsSourceOrder() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4, ComputationScheduler.WorkerSelection.ROUND_ROBIN);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+
+        try {
+            Observable.range(0, 10_000)
+                    .parallel(4)
+                    .runOn(scheduler)
+                    .filter(x -> x % 3 != 0)
+                    .map(x -> x + 1)
+                    .ordered()
+                    .subscribe(received::add, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(IntStream.range(0, 10_000).filter(x -> x % 3 != 0).map(x -> x + 1).boxed().toList(),
+                    received);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testSortedAndReduce() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(3, ComputationScheduler.WorkerSelection.ROUND_ROBIN);
+        List<Integer> sorted = Collections.synchronizedList(new ArrayList<>());
+        AtomicReference<Long> sum = new AtomicReference<>();
+        CountDownLatch latch = new CountDownLatch(2);
+
+        try {
+            Observable.fromArray(5, 3, 9, 1, 7, 2, 8)
+                    .parallel(3)
+                    .runOn(scheduler)
+                    .sorted(Comparator.reverseOrder())
+                    .subscribe(sorted::add, error -> fail("Unexpected error"), latch::countDown);
+
+            Observable.range(1, 100)
+                    .parallel(3)
+                    .runOn(scheduler)
+                    .reduce(() -> 0L, (acc, x) -> acc + x, Long::sum)
+                    .subscribe(sum::set, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of(9, 8, 7, 5, 3, 2, 1), sorted);
+            assertEquals(5050L, sum.get());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testRailErrorStopsSource() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Integer> received = new ArrayList<>();
+
+        Observable.range(0, 100)
+                .parallel(2)
+                .map(x -> {
+                    if (x == 5) {
+                        throw new IllegalStateException("rail failed");
+                    }
+                    return x;
+                })
+                .reduce(Integer::sum)
+                .subscribe(received::add, error::set, () -> fail("Should not complete"));
+
+        assertEquals("rail failed", error.get().getMessage());
+        assertTrue(received.isEmpty());
+    }
+}
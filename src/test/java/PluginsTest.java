@@ -0,0 +1,126 @@
+import components.Disposable;
+import components.Observable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import plugins.InMemoryInstrumentation;
+import plugins.Plugins;
+import schedulers.SingleThreadScheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PluginsTest {
+
+    @AfterEach
+    void resetPlugins() {
+        Plugins.reset();
+    }
+
+    @Test
+    void testOperatorMetrics() {
+        InMemoryInstrumentation metrics = new InMemoryInstrumentation();
+        Plugins.setInstrumentation(metrics);
+        List<Integer> received = new ArrayList<>();
+
+        Observable.range(0, 100)
+                .map(x -> x * 2)
+                .filter(x -> x % 4 == 0)
+                .subscribe(received::add, error -> fail("Unexpected error"), () -> {
+                });
+
+        assertEquals(50, received.size());
+        assertEquals(100, metrics.operator("range").items());
+        assertEquals(100, metrics.operator("map").items());
+        assertEquals(50, metrics.operator("filter").items());
+        assertEquals(100, metrics.operator("map").latency().count());
+        assertEquals(1, metrics.operator("filter").subscriptions());
+        assertEquals(0, metrics.operator("filter").activeSubscriptions());
+        assertEquals(1, metrics.operator("filter").lifetimes().count());
+    }
+
+    @Test
+    void testSchedulerAndQueueMetrics() throws InterruptedException {
+        InMemoryInstrumentation metrics = new InMemoryInstrumentation();
+        Plugins.setInstrumentation(metrics);
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        Observable.range(0, 1000)
+                .observeOn(scheduler)
+                .subscribe(item -> {
+                }, error -> fail("Unexpected error"), latch::countDown);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        scheduler.shutdown();
+
+        assertEquals(1000, metrics.operator("observeOn").items());
+        assertTrue(metrics.operator("observeOn").maxQueueDepth() >= 1);
+        assertTrue(metrics.scheduler("single").completed() >= 1);
+        assertEquals(0, metrics.scheduler("single").queued());
+        assertEquals(0, metrics.scheduler("single").active());
+    }
+
+    @Test
+    void testDisposeEndsSubscription() {
+        InMemoryInstrumentation metrics = new InMemoryInstrumentation();
+        Plugins.setInstrumentation(metrics);
+
+        Disposable disposable = Observable.<Integer>create(observer -> {
+                })
+                .map(x -> x + 1)
+                .subscribe(item -> {
+                }, error -> fail("Unexpected error"), () -> {
+                });
+
+        assertEquals(1, metrics.operator("map").activeSubscriptions());
+        disposable.dispose();
+        assertEquals(0, metrics.operator("map").activeSubscriptions());
+        assertEquals(1, metrics.operator("create").lifetimes().count());
+    }
+
+    @Test
+    void testAssemblyAndScheduleHooks() throws InterruptedException {
+        AtomicInteger assembled = new AtomicInteger();
+        ThreadLocal<String> context = new ThreadLocal<>();
+        List<String> seen = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+
+        Plugins.setOnAssembly(source -> {
+            assembled.incrementAndGet();
+            return source;
+        });
+        // Контекст вызывающего потока переносится в задачу планировщика
+        Plugins.setOnSchedule(task -> {
+            String captured = context.get();
+            return () -> {
+                context.set(captured);
+                try {
+                    task.run();
+                } finally {
+                    context.remove();
+                }
+            };
+        });
+
+        try {
+            context.set("request-42");
+            Observable.fromArray(1, 2)
+                    .observeOn(scheduler)
+                    .subscribe(item -> seen.add(context.get()), error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(2, assembled.get());
+            assertEquals(List.of("request-42", "request-42"), seen);
+        } finally {
+            context.remove();
+            scheduler.shutdown();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+import components.DoubleObservable;
+import components.IntObservable;
+import components.LongObservable;
+import components.Observable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrimitiveObservableTest {
+
+    @Test
+    void testIntMapFilterSum() {
+        AtomicInteger result = new AtomicInteger();
+        AtomicBoolean completed = new AtomicBoolean(false);
+
+        IntObservable.range(1, 10)
+                .map(x -> x * 2)
+                .filter(x -> x % 4 == 0)
+                .sum()
+                .subscribe(result::set, error -> fail("Unexpected error"), () -> completed.set(true));
+
+        assertEquals(4 + 8 + 12 + 16 + 20, result.get());
+        assertTrue(completed.get());
+    }
+
+    @Test
+    void testAggregationsOnEmptySource() {
+        List<Double> averages = new ArrayList<>();
+        List<Integer> minimums = new ArrayList<>();
+        AtomicReference<Long> count = new AtomicReference<>();
+
+        IntObservable empty = IntObservable.fromArray();
+        empty.average().subscribe(averages::add, error -> fail("Unexpected error"), () -> {
+        });
+        empty.min().subscribe(minimums::add, error -> fail("Unexpected error"), () -> {
+        });
+        empty.count().subscribe(count::set, error -> fail("Unexpected error"), () -> {
+        });
+
+        assertTrue(averages.isEmpty());
+        assertTrue(minimums.isEmpty());
+        assertEquals(0L, count.get());
+    }
+
+    @Test
+    void testLongAndDoubleAggregations() {
+        List<Long> longs = new ArrayList<>();
+        List<Double> doubles = new ArrayList<>();
+
+        LongObservable.range(0, 1000).max().subscribe(longs::add, error -> fail("Unexpected error"), () -> {
+        });
+        LongObservable.range(0, 1000).count().subscribe(longs::add, error -> fail("Unexpected error"), () -> {
+        });
+        LongObservable.range(1, 4).average().subscribe(doubles::add, error -> fail("Unexpected error"), () -> {
+        });
+
+        // Без компенсации сумма 0.1 * 10 дает 0.9999999999999999
+        DoubleObservable.fromArray(0.1, 0.1, 0.1, 0.1, 0.1, 0.1, 0.1, 0.1, 0.1, 0.1)
+                .sum()
+                .subscribe(doubles::add, error -> fail("Unexpected error"), () -> {
+                });
+
+        assertEquals(List.of(999L, 1000L), longs);
+        assertEquals(List.of(2.5, 1.0), doubles);
+    }
+
+    @Test
+    void testBoxedBridges() {
+        List<String> received = new ArrayList<>();
+
+        Observable.fromArray("a", "bb", "ccc")
+                .mapToInt(String::length)
+                .asLongObservable()
+                .map(x -> x * 10)
+                .boxed()
+                .map(x -> "len:" + x)
+                .subscribe(received::add, error -> fail("Unexpected error"), () -> {
+                });
+
+        assertEquals(List.of("len:10", "len:20", "len:30"), received);
+    }
+
+    @Test
+    void testMapperErrorStopsSource() {
+        AtomicInteger emitted = new AtomicInteger();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        IntObservable.create(emitter -> {
+                    while (!emitter.isDisposed()) {
+                        emitter.onNext(emitted.incrementAndGet());
+                    }
+                })
+                .map(x -> {
+                    if (x == 3) {
+                        throw new IllegalStateException("bad sample");
+                    }
+                    return x;
+                })
+                .sum()
+                .subscribe(value -> fail("Should not emit"), error::set, () -> fail("Should not complete"));
+
+        assertEquals("bad sample", error.get().getMessage());
+        assertEquals(3, emitted.get());
+    }
+}
@@ -0,0 +1,74 @@
+import org.junit.jupiter.api.Test;
+import queues.SpscArrayQueue;
+import queues.SpscLinkedArrayQueue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class QueueTest {
+
+    @Test
+    void testSpscArrayQueueIsBounded() {
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+
+        assertEquals(0, queue.poll());
+        assertTrue(queue.offer(4));
+        for (int i = 1; i <= 4; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testSpscLinkedArrayQueueGrowsWhenFull() {
+        SpscLinkedArrayQueue<Integer> queue = new SpscLinkedArrayQueue<>(8);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(queue.offer(i));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testSpscArrayQueueAcrossThreads() throws InterruptedException {
+        int count = 100_000;
+        SpscArrayQueue<Integer> queue = new SpscArrayQueue<>(128);
+        AtomicBoolean ordered = new AtomicBoolean(true);
+
+        Thread consumer = new Thread(() -> {
+            int expected = 0;
+            while (expected < count) {
+                Integer item = queue.poll();
+                if (item == null) {
+                    Thread.yield();
+                    continue;
+                }
+                if (item != expected) {
+                    ordered.set(false);
+                }
+                expected++;
+            }
+        });
+        consumer.start();
+
+        for (int i = 0; i < count; i++) {
+            while (!queue.offer(i)) {
+                Thread.yield();
+            }
+        }
+        consumer.join(5000);
+
+        assertFalse(consumer.isAlive());
+        assertTrue(ordered.get());
+    }
+}
@@ -0,0 +1,211 @@
+import components.Observable;
+import components.Scheduler;
+import org.junit.jupiter.api.Test;
+import schedulers.CachedThreadScheduler;
+import schedulers.ComputationScheduler;
+import schedulers.ForkJoinScheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchedulerTest {
+
+    @Test
+    void testWorkerKeepsThreadAffinity() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4, ComputationScheduler.WorkerSelection.ROUND_ROBIN);
+        Scheduler.Worker worker = scheduler.createWorker();
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(100);
+
+        try {
+            for (int i = 0; i < 100; i++) {
+                worker.execute(() -> {
+                    threads.add(Thread.currentThread());
+                    latch.countDown();
+                });
+            }
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertEquals(1, threads.size());
+        } finally {
+            worker.dispose();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testRoundRobinSpreadsWorkers() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(4, ComputationScheduler.WorkerSelection.ROUND_ROBIN);
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch latch = new CountDownLatch(4);
+
+        try {
+            for (int i = 0; i < 4; i++) {
+                scheduler.createWorker().execute(() -> {
+                    threads.add(Thread.currentThread());
+                    latch.countDown();
+                });
+            }
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertEquals(4, threads.size());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testLeastLoadedPicksIdleLoop() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(2, ComputationScheduler.WorkerSelection.LEAST_LOADED);
+        Scheduler.Worker first = scheduler.createWorker();
+        Scheduler.Worker second = scheduler.createWorker();
+        first.dispose();
+        Scheduler.Worker third = scheduler.createWorker();
+        Thread[] threads = new Thread[2];
+        CountDownLatch latch = new CountDownLatch(2);
+
+        try {
+            second.execute(() -> {
+                threads[0] = Thread.currentThread();
+                latch.countDown();
+            });
+            third.execute(() -> {
+                threads[1] = Thread.currentThread();
+                latch.countDown();
+            });
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertNotEquals(threads[0], threads[1]);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testSerialWorkerOnThreadPool() throws InterruptedException {
+        CachedThreadScheduler scheduler = new CachedThreadScheduler();
+        Scheduler.Worker worker = scheduler.createWorker();
+        List<Integer> order = new ArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean(false);
+        CountDownLatch latch = new CountDownLatch(1000);
+
+        try {
+            for (int i = 0; i < 1000; i++) {
+                int value = i;
+                worker.execute(() -> {
+                    if (running.incrementAndGet() > 1) {
+                        overlapped.set(true);
+                    }
+                    order.add(value);
+                    running.decrementAndGet();
+                    latch.countDown();
+                });
+            }
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertFalse(overlapped.get());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i, order.get(i));
+            }
+        } finally {
+            worker.dispose();
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testDisposedWorkerCancelsTimers() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler(1, ComputationScheduler.WorkerSelection.ROUND_ROBIN);
+        Scheduler.Worker worker = scheduler.createWorker();
+        AtomicInteger runs = new AtomicInteger();
+
+        try {
+            worker.schedule(runs::incrementAndGet, 30, TimeUnit.MILLISECONDS);
+            worker.schedulePeriodically(runs::incrementAndGet, 10, 10, TimeUnit.MILLISECONDS);
+            worker.dispose();
+            worker.execute(runs::incrementAndGet);
+            Thread.sleep(100);
+
+            assertEquals(0, runs.get());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testShutdownRunsQueuedTasks() {
+        ComputationScheduler scheduler = new ComputationScheduler(2, ComputationScheduler.WorkerSelection.ROUND_ROBIN);
+        Set<Integer> executed = new HashSet<>();
+
+        for (int i = 0; i < 100; i++) {
+            int value = i;
+            scheduler.execute(() -> {
+                synchronized (executed) {
+                    executed.add(value);
+                }
+            });
+        }
+        scheduler.shutdown();
+
+        assertEquals(100, executed.size());
+    }
+
+    @Test
+    void testForkJoinRecursiveFanOut() throws InterruptedException {
+        ForkJoinScheduler scheduler = new ForkJoinScheduler(4);
+        int depth = 12;
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        CountDownLatch leaves = new CountDownLatch(1 << depth);
+
+        try {
+            scheduler.execute(() -> split(scheduler, depth, threads, leaves));
+
+            assertTrue(leaves.await(5, TimeUnit.SECONDS));
+            assertTrue(threads.stream().allMatch(name -> name.startsWith("forkjoin-")));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    // Каждая задача ставит две дочерние из потока пула: они попадают в его локальную очередь
+    private static void split(Scheduler scheduler, int level, Set<String> threads, CountDownLatch leaves) {
+        threads.add(Thread.currentThread().getName());
+        if (level == 0) {
+            leaves.countDown();
+            return;
+        }
+        scheduler.execute(() -> split(scheduler, level - 1, threads, leaves));
+        scheduler.execute(() -> split(scheduler, level - 1, threads, leaves));
+    }
+
+    @Test
+    void testForkJoinNestedFlatMap() throws InterruptedException {
+        ForkJoinScheduler scheduler = new ForkJoinScheduler(4);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+
+        try {
+            Observable.range(0, 20)
+                    .flatMap(x -> Observable.range(x * 50, 50).subscribeOn(scheduler)
+                            .flatMap(y -> Observable.fromArray(y).subscribeOn(scheduler)))
+                    .subscribe(received::add, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+            assertEquals(1000, received.size());
+            assertEquals(1000, new HashSet<>(received).size());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+}
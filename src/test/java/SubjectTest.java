@@ -0,0 +1,156 @@
+import components.ConnectableObservable;
+import components.Disposable;
+import components.Observable;
+import org.junit.jupiter.api.Test;
+import subjects.BehaviorSubject;
+import subjects.PublishSubject;
+import subjects.ReplaySubject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SubjectTest {
+
+    @Test
+    void testPublishSubject() {
+        PublishSubject<Integer> subject = PublishSubject.create();
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+        AtomicBoolean lateCompleted = new AtomicBoolean(false);
+
+        subject.subscribe(first::add, error -> fail("Unexpected error"), () -> {
+        });
+        subject.onNext(1);
+        Disposable disposable = subject.subscribe(second::add, error -> fail("Unexpected error"), () -> {
+        });
+        subject.onNext(2);
+        disposable.dispose();
+        subject.onNext(3);
+        subject.onComplete();
+        subject.subscribe(item -> fail("Should not emit"), error -> fail("Unexpected error"),
+                () -> lateCompleted.set(true));
+
+        assertEquals(List.of(1, 2, 3), first);
+        assertEquals(List.of(2), second);
+        assertTrue(lateCompleted.get());
+        assertFalse(subject.hasObservers());
+    }
+
+    @Test
+    void testBehaviorSubject() {
+        BehaviorSubject<String> subject = BehaviorSubject.createDefault("initial");
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        AtomicBoolean lateCompleted = new AtomicBoolean(false);
+
+        subject.subscribe(first::add, error -> fail("Unexpected error"), () -> {
+        });
+        subject.onNext("a");
+        subject.onNext("b");
+        subject.subscribe(second::add, error -> fail("Unexpected error"), () -> {
+        });
+        subject.onNext("c");
+        subject.onComplete();
+        subject.subscribe(item -> fail("Should not emit"), error -> fail("Unexpected error"),
+                () -> lateCompleted.set(true));
+
+        assertEquals(List.of("initial", "a", "b", "c"), first);
+        assertEquals(List.of("b", "c"), second);
+        assertTrue(lateCompleted.get());
+        assertNull(subject.getValue());
+    }
+
+    @Test
+    void testReplaySubjectBoundedBySize() {
+        ReplaySubject<Integer> subject = ReplaySubject.createWithSize(3);
+        List<Integer> late = new ArrayList<>();
+        AtomicBoolean completed = new AtomicBoolean(false);
+
+        for (int i = 0; i < 100; i++) {
+            subject.onNext(i);
+        }
+        subject.onComplete();
+        subject.subscribe(late::add, error -> fail("Unexpected error"), () -> completed.set(true));
+
+        assertEquals(List.of(97, 98, 99), late);
+        assertTrue(completed.get());
+    }
+
+    @Test
+    void testReplaySubjectBoundedByTime() throws InterruptedException {
+        ReplaySubject<Integer> subject = ReplaySubject.createWithTimeAndSize(50, TimeUnit.MILLISECONDS, 100);
+        List<Integer> late = new ArrayList<>();
+
+        subject.onNext(1);
+        subject.onNext(2);
+        Thread.sleep(100);
+        subject.onNext(3);
+        subject.subscribe(late::add, error -> fail("Unexpected error"), () -> {
+        });
+        subject.onNext(4);
+
+        assertEquals(List.of(3, 4), late);
+    }
+
+    @Test
+    void testPublishRunsSourceOnce() {
+        AtomicInteger subscriptions = new AtomicInteger();
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+
+        ConnectableObservable<Integer> published = Observable.<Integer>create(observer -> {
+            subscriptions.incrementAndGet();
+            observer.onNext(1);
+            observer.onNext(2);
+            observer.onComplete();
+        }).publish();
+
+        published.map(x -> x * 10).subscribe(first::add, error -> fail("Unexpected error"), () -> {
+        });
+        published.subscribe(second::add, error -> fail("Unexpected error"), () -> {
+        });
+        published.connect();
+
+        assertEquals(1, subscriptions.get());
+        assertEquals(List.of(10, 20), first);
+        assertEquals(List.of(1, 2), second);
+    }
+
+    @Test
+    void testShareDisconnectsAfterLastSubscriber() {
+        PublishSubject<Integer> feed = PublishSubject.create();
+        AtomicInteger subscriptions = new AtomicInteger();
+        AtomicInteger disconnects = new AtomicInteger();
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+
+        Observable<Integer> shared = Observable.<Integer>create(observer -> {
+            subscriptions.incrementAndGet();
+            observer.setCancellable(disconnects::incrementAndGet);
+            feed.subscribe(observer);
+        }).share();
+
+        Disposable d1 = shared.subscribe(first::add, error -> fail("Unexpected error"), () -> {
+        });
+        Disposable d2 = shared.subscribe(second::add, error -> fail("Unexpected error"), () -> {
+        });
+        feed.onNext(1);
+        d1.dispose();
+        feed.onNext(2);
+
+        assertEquals(1, subscriptions.get());
+        assertEquals(0, disconnects.get());
+
+        d2.dispose();
+
+        assertEquals(1, disconnects.get());
+        assertFalse(feed.hasObservers());
+        assertEquals(List.of(1), first);
+        assertEquals(List.of(1, 2), second);
+    }
+}
@@ -0,0 +1,244 @@
+import components.Disposable;
+import components.Observable;
+import org.junit.jupiter.api.Test;
+import schedulers.ComputationScheduler;
+import schedulers.HashedWheelTimer;
+import schedulers.SingleThreadScheduler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeOperatorsTest {
+
+    @Test
+    void testScheduleWithDelay() throws InterruptedException {
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        try {
+            scheduler.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testDisposedTaskDoesNotRun() throws InterruptedException {
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        AtomicInteger runs = new AtomicInteger();
+
+        try {
+            Disposable task = scheduler.schedule(runs::incrementAndGet, 30, TimeUnit.MILLISECONDS);
+            Disposable periodic = scheduler.schedulePeriodically(runs::incrementAndGet, 10, 10, TimeUnit.MILLISECONDS);
+            task.dispose();
+            periodic.dispose();
+            Thread.sleep(100);
+
+            assertEquals(0, runs.get());
+            assertTrue(task.isDisposed());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testTimerHandlesManyCancelledTimeouts() throws InterruptedException {
+        HashedWheelTimer timer = new HashedWheelTimer("test-timer", 1, TimeUnit.MILLISECONDS, 64);
+        List<Disposable> timeouts = new ArrayList<>();
+        AtomicInteger fired = new AtomicInteger();
+
+        try {
+            for (int i = 0; i < 200_000; i++) {
+                timeouts.add(timer.schedule(fired::incrementAndGet, 10, TimeUnit.SECONDS));
+            }
+            timeouts.forEach(Disposable::dispose);
+            timer.schedule(fired::incrementAndGet, 1, TimeUnit.MILLISECONDS);
+            Thread.sleep(200);
+
+            assertEquals(1, fired.get());
+            assertEquals(0, timer.pendingTimeouts());
+        } finally {
+            timer.stop();
+        }
+    }
+
+    @Test
+    void testInterval() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler();
+        List<Long> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(5);
+
+        try {
+            Observable.interval(5, TimeUnit.MILLISECONDS, scheduler)
+                    .subscribe(item -> {
+                        received.add(item);
+                        latch.countDown();
+                    }, error -> fail("Unexpected error"), () -> {
+                    });
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertEquals(List.of(0L, 1L, 2L, 3L, 4L), received.subList(0, 5));
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testIntervalStopsAfterDispose() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler();
+        AtomicInteger ticks = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(3);
+
+        try {
+            Disposable disposable = Observable.interval(5, TimeUnit.MILLISECONDS, scheduler)
+                    .map(x -> x + 1)
+                    .subscribe(item -> {
+                        ticks.incrementAndGet();
+                        latch.countDown();
+                    }, error -> fail("Unexpected error"), () -> {
+                    });
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            disposable.dispose();
+            int afterDispose = ticks.get();
+
+            Thread.sleep(50);
+            assertTrue(ticks.get() <= afterDispose + 1);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testDelayKeepsOrder() throws InterruptedException {
+        ComputationScheduler scheduler = new ComputationScheduler();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        try {
+            Observable.range(0, 100)
+                    .delay(30, TimeUnit.MILLISECONDS, scheduler)
+                    .subscribe(received::add, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(30));
+            for (int i = 0; i < 100; i++) {
+                assertEquals(i, received.get(i));
+            }
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testTimeout() throws InterruptedException {
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<Integer> received = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        try {
+            Observable.<Integer>create(observer -> observer.onNext(1))
+                    .timeout(50, TimeUnit.MILLISECONDS, scheduler)
+                    .subscribe(received::add, e -> {
+                        error.set(e);
+                        latch.countDown();
+                    }, () -> fail("Should not complete"));
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertEquals(List.of(1), received);
+            assertInstanceOf(TimeoutException.class, error.get());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testNoTimeoutForFastSource() throws InterruptedException {
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        AtomicInteger completed = new AtomicInteger();
+
+        try {
+            Observable.range(0, 10)
+                    .timeout(50, TimeUnit.MILLISECONDS, scheduler)
+                    .subscribe(item -> {
+                    }, e -> fail("Unexpected timeout"), completed::incrementAndGet);
+            Thread.sleep(100);
+
+            assertEquals(1, completed.get());
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testDebounce() throws InterruptedException {
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+
+        try {
+            Observable.<Integer>create(observer -> {
+                        observer.onNext(1);
+                        observer.onNext(2);
+                        sleep(100);
+                        observer.onNext(3);
+                        observer.onNext(4);
+                        observer.onComplete();
+                    })
+                    .debounce(30, TimeUnit.MILLISECONDS, scheduler)
+                    .subscribe(received::add, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertEquals(List.of(2, 4), received);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void testSample() throws InterruptedException {
+        SingleThreadScheduler scheduler = new SingleThreadScheduler();
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(1);
+
+        try {
+            Observable.<Integer>create(observer -> {
+                        observer.onNext(1);
+                        observer.onNext(2);
+                        sleep(100);
+                        observer.onNext(3);
+                        sleep(100);
+                        observer.onComplete();
+                    })
+                    .sample(40, TimeUnit.MILLISECONDS, scheduler)
+                    .subscribe(received::add, error -> fail("Unexpected error"), latch::countDown);
+
+            assertTrue(latch.await(1, TimeUnit.SECONDS));
+            assertEquals(List.of(2, 3), received);
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}